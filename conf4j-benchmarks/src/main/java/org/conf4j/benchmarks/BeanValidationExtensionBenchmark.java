@@ -0,0 +1,121 @@
+package org.conf4j.benchmarks;
+
+import org.conf4j.bean.validation.BeanValidationExtension;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures validating a reloaded configuration bean in which a single entry changed, while unchanged entries are
+ * reused from the previous bean, as they are after a reload. Compares validating the whole bean with Hibernate
+ * Validator to the incremental validation of {@link BeanValidationExtension}, for configurations of the given size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanValidationExtensionBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private HoconDocuments.Size size;
+
+    private Validator validator;
+    private BeanValidationExtension extension;
+    private Map<String, ValidatedEntry> entries;
+    private int reloads;
+    private ValidatedConfiguration reloadedConfiguration;
+
+    @Setup
+    public void setUp() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        extension = new BeanValidationExtension();
+
+        entries = new LinkedHashMap<>();
+        for (int i = 0; i < size.getNumOfEntries(); i++) {
+            entries.put("entry" + i, new ValidatedEntry("entry-" + i, i, Arrays.asList("tag-" + i % 7, "tag-" + i % 13)));
+        }
+        extension.afterConfigBeanAssembly(new ValidatedConfiguration("validation-benchmark", entries));
+    }
+
+    @Setup(Level.Invocation)
+    public void reloadOneEntry() {
+        reloads++;
+        Map<String, ValidatedEntry> reloadedEntries = new LinkedHashMap<>(entries);
+        reloadedEntries.put("entry0", new ValidatedEntry("entry-0", reloads, Arrays.asList("tag-0", "tag-0")));
+        reloadedConfiguration = new ValidatedConfiguration("validation-benchmark", reloadedEntries);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ValidatedConfiguration>> fullValidation() {
+        return validator.validate(reloadedConfiguration);
+    }
+
+    @Benchmark
+    public ValidatedConfiguration incrementalValidation() {
+        extension.afterConfigBeanAssembly(reloadedConfiguration);
+        return reloadedConfiguration;
+    }
+
+    public static class ValidatedConfiguration {
+
+        @NotBlank
+        private final String serviceName;
+
+        @Valid
+        @NotNull
+        private final Map<String, ValidatedEntry> entries;
+
+        public ValidatedConfiguration(String serviceName, Map<String, ValidatedEntry> entries) {
+            this.serviceName = serviceName;
+            this.entries = entries;
+        }
+
+    }
+
+    public static class ValidatedEntry {
+
+        @NotBlank
+        private final String name;
+
+        @PositiveOrZero
+        private final long value;
+
+        @NotNull
+        @Size(max = 8)
+        private final List<@NotBlank String> tags;
+
+        public ValidatedEntry(String name, long value, List<String> tags) {
+            this.name = name;
+            this.value = value;
+            this.tags = tags;
+        }
+
+    }
+
+}
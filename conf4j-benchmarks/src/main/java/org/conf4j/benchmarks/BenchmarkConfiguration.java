@@ -0,0 +1,160 @@
+package org.conf4j.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Configuration bean of all benchmarks, matching both {@code benchmark-configuration.conf} and the documents
+ * produced by {@link HoconDocuments}, which add generated entries.
+ */
+public class BenchmarkConfiguration {
+
+    private final int port;
+    private final String serviceName;
+    private final DatabaseConfiguration database;
+    private final Map<String, Entry> entries;
+
+    @JsonCreator
+    public BenchmarkConfiguration(@JsonProperty("port") int port,
+                                  @JsonProperty("serviceName") String serviceName,
+                                  @JsonProperty("database") DatabaseConfiguration database,
+                                  @JsonProperty("entries") Map<String, Entry> entries) {
+        this.port = port;
+        this.serviceName = serviceName;
+        this.database = database;
+        this.entries = entries;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public DatabaseConfiguration getDatabase() {
+        return database;
+    }
+
+    public Map<String, Entry> getEntries() {
+        return entries;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BenchmarkConfiguration that = (BenchmarkConfiguration) o;
+        return port == that.port &&
+                Objects.equals(serviceName, that.serviceName) &&
+                Objects.equals(database, that.database) &&
+                Objects.equals(entries, that.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(port, serviceName, database, entries);
+    }
+
+    public static class DatabaseConfiguration {
+
+        private final String host;
+        private final String user;
+        private final String password;
+
+        @JsonCreator
+        public DatabaseConfiguration(@JsonProperty("host") String host,
+                                     @JsonProperty("user") String user,
+                                     @JsonProperty("password") String password) {
+            this.host = host;
+            this.user = user;
+            this.password = password;
+        }
+
+        public String getHost() {
+            return host;
+        }
+
+        public String getUser() {
+            return user;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            DatabaseConfiguration that = (DatabaseConfiguration) o;
+            return Objects.equals(host, that.host) &&
+                    Objects.equals(user, that.user) &&
+                    Objects.equals(password, that.password);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(host, user, password);
+        }
+
+    }
+
+    public static class Entry {
+
+        private final String name;
+        private final long value;
+        private final boolean enabled;
+        private final List<String> tags;
+
+        @JsonCreator
+        public Entry(@JsonProperty("name") String name,
+                     @JsonProperty("value") long value,
+                     @JsonProperty("enabled") boolean enabled,
+                     @JsonProperty("tags") List<String> tags) {
+            this.name = name;
+            this.value = value;
+            this.enabled = enabled;
+            this.tags = tags;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getValue() {
+            return value;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Entry entry = (Entry) o;
+            return value == entry.value &&
+                    enabled == entry.enabled &&
+                    Objects.equals(name, entry.name) &&
+                    Objects.equals(tags, entry.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, value, enabled, tags);
+        }
+
+    }
+
+}
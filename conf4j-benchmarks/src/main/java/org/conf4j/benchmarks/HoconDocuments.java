@@ -0,0 +1,62 @@
+package org.conf4j.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Generates HOCON documents of a given size for benchmarks that need realistic configuration files.
+ */
+public final class HoconDocuments {
+
+    private HoconDocuments() {}
+
+    public enum Size {
+
+        SMALL(10),
+        MEDIUM(1_000),
+        LARGE(20_000);
+
+        private final int numOfEntries;
+
+        Size(int numOfEntries) {
+            this.numOfEntries = numOfEntries;
+        }
+
+        public int getNumOfEntries() {
+            return numOfEntries;
+        }
+
+    }
+
+    public static String generate(int numOfEntries, String serviceName) {
+        StringBuilder document = new StringBuilder(numOfEntries * 96);
+        document.append("port: 8080\n");
+        document.append("serviceName: ").append(serviceName).append('\n');
+        document.append("database { host: localhost, user: root, password: secret }\n");
+        document.append("entries {\n");
+        for (int i = 0; i < numOfEntries; i++) {
+            document.append("  entry").append(i).append(" {")
+                    .append(" name: \"entry-").append(i).append('"')
+                    .append(", value: ").append(i)
+                    .append(", enabled: ").append(i % 2 == 0)
+                    .append(", tags: [tag-").append(i % 7).append(", tag-").append(i % 13).append(']')
+                    .append(" }\n");
+        }
+        document.append("}\n");
+        return document.toString();
+    }
+
+    public static File writeTempFile(String document) throws IOException {
+        File file = File.createTempFile("conf4j-benchmark", ".conf");
+        file.deleteOnExit();
+        write(file, document);
+        return file;
+    }
+
+    public static void write(File file, String document) throws IOException {
+        Files.write(file.toPath(), document.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,27 @@
+package org.conf4j.benchmarks;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.conf4j.core.source.ConfigurationSource;
+
+/**
+ * Configuration source backed by an already parsed {@link Config}, used to isolate the cost of the
+ * library from the cost of I/O and parsing.
+ */
+public class InMemoryConfigurationSource implements ConfigurationSource {
+
+    private final Config config;
+
+    public InMemoryConfigurationSource(String document) {
+        this.config = ConfigFactory.parseString(document);
+    }
+
+    @Override
+    public Config getConfig() {
+        return config;
+    }
+
+    @Override
+    public void reload() {}
+
+}
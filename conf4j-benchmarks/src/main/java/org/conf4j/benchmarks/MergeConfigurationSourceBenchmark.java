@@ -0,0 +1,61 @@
+package org.conf4j.benchmarks;
+
+import com.typesafe.config.Config;
+import org.conf4j.core.source.ConfigurationSource;
+import org.conf4j.core.source.MergeConfigurationSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code getConfig()} and {@code reload()} on a merge source with the given number of fallbacks,
+ * built the same way {@code ConfigurationProviderBuilder.withFallbacks} builds it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeConfigurationSourceBenchmark {
+
+    private static final int NUM_OF_ENTRIES_PER_SOURCE = 100;
+
+    @Param({"1", "5", "10", "20"})
+    private int depth;
+
+    private ConfigurationSource mergeSource;
+
+    @Setup
+    public void setUp() {
+        MergeConfigurationSource.Builder builder = MergeConfigurationSource.builder()
+                .withSource(new InMemoryConfigurationSource(HoconDocuments.generate(NUM_OF_ENTRIES_PER_SOURCE, "layer-0")));
+        for (int i = 1; i <= depth; i++) {
+            builder.withFallback(new InMemoryConfigurationSource(HoconDocuments.generate(NUM_OF_ENTRIES_PER_SOURCE, "layer-" + i)));
+        }
+
+        mergeSource = builder.build();
+    }
+
+    @Benchmark
+    public Config getConfig() {
+        return mergeSource.getConfig();
+    }
+
+    @Benchmark
+    public Config reloadAndGetConfig() {
+        mergeSource.reload();
+        return mergeSource.getConfig();
+    }
+
+}
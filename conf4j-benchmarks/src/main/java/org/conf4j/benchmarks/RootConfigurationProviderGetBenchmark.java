@@ -0,0 +1,119 @@
+package org.conf4j.benchmarks;
+
+import org.conf4j.core.ConfigurationProvider;
+import org.conf4j.core.ConfigurationProviderBuilder;
+import org.conf4j.core.source.ClasspathConfigurationSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Compares the previous read path of {@code RootConfigurationProvider.get()}, which ran
+ * {@link AtomicReference#updateAndGet} (a CAS) on every call, with the current plain volatile read,
+ * and measures {@code get()} on the last view of a chain of nested views of the given depth.
+ * Each nested class runs the same benchmarks with a different number of threads, to show how the
+ * contention on the cached reference grows with the number of readers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class RootConfigurationProviderGetBenchmark {
+
+    private ConfigurationProvider<BenchmarkConfiguration> provider;
+    private AtomicReference<BenchmarkConfiguration> legacyConfigurationCache;
+
+    @Setup
+    public void setUp() {
+        provider = createProvider();
+        legacyConfigurationCache = new AtomicReference<>(provider.get());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        provider.close();
+    }
+
+    @Benchmark
+    public BenchmarkConfiguration compareAndSetRead() {
+        return legacyConfigurationCache.updateAndGet(this::buildConfigObjectIfNeeded);
+    }
+
+    @Benchmark
+    public BenchmarkConfiguration volatileRead() {
+        return provider.get();
+    }
+
+    @Benchmark
+    public BenchmarkConfiguration viewRead(ViewChain viewChain) {
+        return viewChain.view.get();
+    }
+
+    private BenchmarkConfiguration buildConfigObjectIfNeeded(BenchmarkConfiguration currentConfig) {
+        if (currentConfig != null) return currentConfig;
+        return provider.get();
+    }
+
+    @State(Scope.Benchmark)
+    public static class ViewChain {
+
+        @Param({"1", "5", "10"})
+        private int viewDepth;
+
+        private ConfigurationProvider<BenchmarkConfiguration> rootProvider;
+        private ConfigurationProvider<BenchmarkConfiguration> view;
+
+        @Setup
+        public void setUp() {
+            rootProvider = createProvider();
+            view = rootProvider;
+            for (int i = 0; i < viewDepth; i++) {
+                view = view.createConfigurationProvider(configuration -> configuration);
+            }
+        }
+
+        @TearDown
+        public void tearDown() throws Exception {
+            rootProvider.close();
+        }
+
+    }
+
+    private static ConfigurationProvider<BenchmarkConfiguration> createProvider() {
+        ClasspathConfigurationSource source = ClasspathConfigurationSource.builder()
+                .withResourcePath("org/conf4j/benchmarks/benchmark-configuration.conf")
+                .build();
+
+        return new ConfigurationProviderBuilder<>(BenchmarkConfiguration.class)
+                .withConfigurationSource(source)
+                .build();
+    }
+
+    @Threads(1)
+    public static class SingleThread extends RootConfigurationProviderGetBenchmark {}
+
+    @Threads(4)
+    public static class FourThreads extends RootConfigurationProviderGetBenchmark {}
+
+    @Threads(16)
+    public static class SixteenThreads extends RootConfigurationProviderGetBenchmark {}
+
+    @Threads(64)
+    public static class SixtyFourThreads extends RootConfigurationProviderGetBenchmark {}
+
+}
@@ -0,0 +1,57 @@
+package org.conf4j.benchmarks;
+
+import org.conf4j.core.ConfigurationProvider;
+import org.conf4j.core.ConfigurationProviderBuilder;
+import org.conf4j.core.source.FilesystemConfigurationSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cold load of a configuration provider: parsing the source, resolving, mapping to the
+ * configuration bean and running the extensions, all of which happen while the provider is built.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RootConfigurationProviderLoadBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private HoconDocuments.Size size;
+
+    private File configFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        configFile = HoconDocuments.writeTempFile(HoconDocuments.generate(size.getNumOfEntries(), "load-benchmark"));
+    }
+
+    @Benchmark
+    public BenchmarkConfiguration buildProvider() throws Exception {
+        FilesystemConfigurationSource source = FilesystemConfigurationSource.builder()
+                .withFilePath(configFile.getAbsolutePath())
+                .build();
+
+        try (ConfigurationProvider<BenchmarkConfiguration> provider = new ConfigurationProviderBuilder<>(BenchmarkConfiguration.class)
+                .withConfigurationSource(source)
+                .build()) {
+            return provider.get();
+        }
+    }
+
+}
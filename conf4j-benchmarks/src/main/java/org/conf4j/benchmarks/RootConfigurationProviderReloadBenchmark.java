@@ -0,0 +1,96 @@
+package org.conf4j.benchmarks;
+
+import org.conf4j.core.ConfigurationProvider;
+import org.conf4j.core.ConfigurationProviderBuilder;
+import org.conf4j.core.source.FilesystemConfigurationSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Measures a single reload triggered by a reload strategy, both when the underlying file did not change
+ * (the common case for periodical reload) and when every reload sees a different document.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RootConfigurationProviderReloadBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ProviderState {
+
+        @Param({"SMALL", "MEDIUM", "LARGE"})
+        private HoconDocuments.Size size;
+
+        private File configFile;
+        private String[] documents;
+        private int nextDocument;
+        private ConfigurationProvider<BenchmarkConfiguration> provider;
+        private final AtomicReference<Runnable> reloadCallback = new AtomicReference<>();
+
+        @Setup
+        public void setUp() throws IOException {
+            documents = new String[] {
+                    HoconDocuments.generate(size.getNumOfEntries(), "reload-benchmark"),
+                    HoconDocuments.generate(size.getNumOfEntries(), "reload-benchmark-changed")
+            };
+            configFile = HoconDocuments.writeTempFile(documents[0]);
+
+            FilesystemConfigurationSource source = FilesystemConfigurationSource.builder()
+                    .withFilePath(configFile.getAbsolutePath())
+                    .build();
+
+            provider = new ConfigurationProviderBuilder<>(BenchmarkConfiguration.class)
+                    .withConfigurationSource(source)
+                    .addReloadStrategy(reloadCallback::set)
+                    .build();
+        }
+
+        @TearDown
+        public void tearDown() throws Exception {
+            provider.close();
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class ChangingFileState {
+
+        @Setup(Level.Invocation)
+        public void changeFile(ProviderState providerState) throws IOException {
+            providerState.nextDocument = (providerState.nextDocument + 1) % providerState.documents.length;
+            HoconDocuments.write(providerState.configFile, providerState.documents[providerState.nextDocument]);
+        }
+
+    }
+
+    @Benchmark
+    public BenchmarkConfiguration reloadUnchanged(ProviderState providerState) {
+        providerState.reloadCallback.get().run();
+        return providerState.provider.get();
+    }
+
+    @Benchmark
+    public BenchmarkConfiguration reloadChanged(ProviderState providerState, ChangingFileState changingFileState) {
+        providerState.reloadCallback.get().run();
+        return providerState.provider.get();
+    }
+
+}
@@ -0,0 +1,50 @@
+package org.conf4j.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the fan-out of a single configuration change to the given number of listeners.
+ * Lives in {@code org.conf4j.core}, unlike the other suites, since {@link ChangeListenersNotifier} is package private.
+ * Reaching it through a provider's public API would measure a whole reload instead of the fan-out alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChangeListenersNotifierBenchmark {
+
+    @Param({"1", "100", "1000", "10000"})
+    private int numOfListeners;
+
+    private ChangeListenersNotifier<String> changeListenersNotifier;
+    private volatile String lastNotifiedConfig;
+
+    @Setup
+    public void setUp() {
+        changeListenersNotifier = new ChangeListenersNotifier<>();
+        for (int i = 0; i < numOfListeners; i++) {
+            changeListenersNotifier.registerChangeListener((oldConfig, newConfig) -> lastNotifiedConfig = newConfig);
+        }
+    }
+
+    @Benchmark
+    public String notifyListeners() {
+        changeListenersNotifier.notifyListenersOnConfigChangeIfNeeded("old-config", "new-config");
+        return lastNotifiedConfig;
+    }
+
+}
@@ -0,0 +1,288 @@
+package org.conf4j.binder.processor;
+
+import com.typesafe.config.ConfigUtil;
+import org.conf4j.core.ConfigurationBinder;
+import org.conf4j.core.GenerateConfigurationBinder;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a {@link ConfigurationBinder} for every class annotated with {@link GenerateConfigurationBinder}, named
+ * and placed the way the configuration provider looks binders up. The binder calls the constructor annotated with
+ * {@code @JsonCreator}, or the only constructor, with each parameter read from the config path named by its
+ * {@code @JsonProperty}, or by the parameter name. Like Jackson, a missing or null value is passed as {@code null},
+ * or as the default value of a primitive.
+ * Supported parameter types are primitives and their wrappers for int, long, double and boolean, {@link String},
+ * {@link java.time.Duration}, enums, lists of those and classes annotated with {@link GenerateConfigurationBinder}.
+ */
+public class ConfigurationBinderProcessor extends AbstractProcessor {
+
+    private static final String BINDER_CLASS_NAME_SUFFIX = "_ConfigurationBinder";
+    private static final String JSON_CREATOR = "com.fasterxml.jackson.annotation.JsonCreator";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(GenerateConfigurationBinder.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(GenerateConfigurationBinder.class)) {
+            try {
+                generateBinder((TypeElement) element);
+            } catch (InvalidConfigurationClassException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to write configuration binder: " + e.getMessage(), element);
+            }
+        }
+
+        return true;
+    }
+
+    private void generateBinder(TypeElement configurationClass) throws IOException {
+        validateConfigurationClass(configurationClass);
+        ExecutableElement constructor = findConstructor(configurationClass);
+
+        List<String> arguments = new ArrayList<>();
+        for (VariableElement parameter : constructor.getParameters()) {
+            String path = processingEnv.getElementUtils().getConstantExpression(ConfigUtil.joinPath(propertyName(parameter)));
+            arguments.add(valueExpression(parameter.asType(), path, parameter));
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(configurationClass).getQualifiedName().toString();
+        String binderClassName = binderClassName(configurationClass);
+        String configurationClassName = configurationClass.getQualifiedName().toString();
+
+        String qualifiedBinderClassName = packageName.isEmpty() ? binderClassName : packageName + "." + binderClassName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedBinderClassName, configurationClass).openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+
+            writer.write("/**\n");
+            writer.write(" * Binds {@link " + configurationClassName + "}, generated by " + getClass().getName() + ".\n");
+            writer.write(" */\n");
+            writer.write("public final class " + binderClassName + "\n");
+            writer.write("        implements " + ConfigurationBinder.class.getName() + "<" + configurationClassName + "> {\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public " + configurationClassName + " bind(com.typesafe.config.Config config) {\n");
+            writer.write("        return new " + configurationClassName + "(");
+            writer.write(arguments.stream().map(argument -> "\n                " + argument).collect(Collectors.joining(",")));
+            writer.write(");\n");
+            writer.write("    }\n\n");
+            writer.write("}\n");
+        }
+    }
+
+    private void validateConfigurationClass(TypeElement configurationClass) {
+        if (configurationClass.getKind() != ElementKind.CLASS || configurationClass.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new InvalidConfigurationClassException("Configuration binder can be generated only for a concrete class",
+                    configurationClass);
+        }
+
+        if (!configurationClass.getTypeParameters().isEmpty()) {
+            throw new InvalidConfigurationClassException("Configuration binder can't be generated for a generic class",
+                    configurationClass);
+        }
+
+        for (Element element = configurationClass; element.getKind().isClass(); element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new InvalidConfigurationClassException("Configuration class must not be private", element);
+            }
+
+            if (((TypeElement) element).getNestingKind() == NestingKind.MEMBER && !element.getModifiers().contains(Modifier.STATIC)) {
+                throw new InvalidConfigurationClassException("Nested configuration class must be static", element);
+            }
+        }
+    }
+
+    private ExecutableElement findConstructor(TypeElement configurationClass) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(configurationClass.getEnclosedElements());
+        List<ExecutableElement> creators = constructors.stream()
+                .filter(constructor -> findAnnotation(constructor, JSON_CREATOR) != null)
+                .collect(Collectors.toList());
+
+        ExecutableElement constructor;
+        if (creators.size() == 1) {
+            constructor = creators.get(0);
+        } else if (creators.isEmpty() && constructors.size() == 1) {
+            constructor = constructors.get(0);
+        } else {
+            throw new InvalidConfigurationClassException("Configuration class must have a single constructor " +
+                    "or a single constructor annotated with @JsonCreator", configurationClass);
+        }
+
+        if (constructor.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new InvalidConfigurationClassException("Constructor of configuration class must not be private", constructor);
+        }
+
+        return constructor;
+    }
+
+    private String valueExpression(TypeMirror type, String path, VariableElement parameter) {
+        String getter = getterName(type, parameter);
+        if (getter != null) {
+            String defaultValue = type.getKind().isPrimitive()
+                    ? (type.getKind() == TypeKind.BOOLEAN ? "false" : "0")
+                    : "null";
+            String enumClassArgument = isEnum(type) ? typeName(type) + ".class, " : "";
+            return "config.hasPath(" + path + ") ? config." + getter + "(" + enumClassArgument + path + ") : " + defaultValue;
+        }
+
+        if (isList(type)) {
+            List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+            TypeMirror elementType = typeArguments.size() == 1 ? typeArguments.get(0) : null;
+            String elementGetter = elementType != null && !elementType.getKind().isPrimitive()
+                    ? getterName(elementType, parameter)
+                    : null;
+            if (elementGetter == null) {
+                throw new InvalidConfigurationClassException("Unsupported list type: " + type, parameter);
+            }
+
+            String enumClassArgument = isEnum(elementType) ? typeName(elementType) + ".class, " : "";
+            return "config.hasPath(" + path + ") ? config." + elementGetter + "List(" + enumClassArgument + path + ") : null";
+        }
+
+        Element typeElement = processingEnv.getTypeUtils().asElement(type);
+        if (typeElement != null && typeElement.getAnnotation(GenerateConfigurationBinder.class) != null) {
+            String packageName = processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+            String binderClassName = binderClassName((TypeElement) typeElement);
+            String qualifiedBinderClassName = packageName.isEmpty() ? binderClassName : packageName + "." + binderClassName;
+            return "config.hasPath(" + path + ") ? new " + qualifiedBinderClassName + "().bind(config.getConfig(" + path + ")) : null";
+        }
+
+        throw new InvalidConfigurationClassException("Unsupported type: " + type + " of configuration property: " +
+                propertyName(parameter), parameter);
+    }
+
+    /**
+     * Returns the name of the {@link com.typesafe.config.Config} getter of a single value of the type, the getter of
+     * a list of such values is the same name with {@code List} appended, or null when the type isn't a single value.
+     */
+    private String getterName(TypeMirror type, Element parameter) {
+        switch (type.getKind()) {
+            case INT:
+                return "getInt";
+            case LONG:
+                return "getLong";
+            case DOUBLE:
+                return "getDouble";
+            case BOOLEAN:
+                return "getBoolean";
+            case DECLARED:
+                break;
+            default:
+                if (type.getKind().isPrimitive()) {
+                    throw new InvalidConfigurationClassException("Unsupported primitive type: " + type, parameter);
+                }
+                return null;
+        }
+
+        if (isEnum(type)) return "getEnum";
+
+        switch (typeName(type)) {
+            case "java.lang.Integer":
+                return "getInt";
+            case "java.lang.Long":
+                return "getLong";
+            case "java.lang.Double":
+                return "getDouble";
+            case "java.lang.Boolean":
+                return "getBoolean";
+            case "java.lang.String":
+                return "getString";
+            case "java.time.Duration":
+                return "getDuration";
+            default:
+                return null;
+        }
+    }
+
+    private boolean isEnum(TypeMirror type) {
+        Element element = processingEnv.getTypeUtils().asElement(type);
+        return element != null && element.getKind() == ElementKind.ENUM;
+    }
+
+    private boolean isList(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && typeName(type).equals("java.util.List");
+    }
+
+    private String typeName(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private String propertyName(VariableElement parameter) {
+        AnnotationMirror jsonProperty = findAnnotation(parameter, JSON_PROPERTY);
+        if (jsonProperty != null) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : jsonProperty.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value") && !entry.getValue().getValue().toString().isEmpty()) {
+                    return entry.getValue().getValue().toString();
+                }
+            }
+        }
+
+        return parameter.getSimpleName().toString();
+    }
+
+    private String binderClassName(TypeElement configurationClass) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(configurationClass).toString();
+        String packageName = processingEnv.getElementUtils().getPackageOf(configurationClass).getQualifiedName().toString();
+        String className = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return className.replace('$', '_') + BINDER_CLASS_NAME_SUFFIX;
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationClassName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationElement = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationElement.getQualifiedName().contentEquals(annotationClassName)) {
+                return annotation;
+            }
+        }
+
+        return null;
+    }
+
+    private static class InvalidConfigurationClassException extends RuntimeException {
+
+        private final Element element;
+
+        private InvalidConfigurationClassException(String message, Element element) {
+            super(message);
+            this.element = element;
+        }
+
+    }
+
+}
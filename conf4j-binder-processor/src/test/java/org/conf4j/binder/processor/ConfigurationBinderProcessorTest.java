@@ -0,0 +1,146 @@
+package org.conf4j.binder.processor;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.typesafe.config.ConfigFactory;
+import org.conf4j.core.ConfigurationProvider;
+import org.conf4j.core.ConfigurationProviderBuilder;
+import org.conf4j.core.GenerateConfigurationBinder;
+import org.conf4j.core.source.ClasspathConfigurationSource;
+import org.junit.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConfigurationBinderProcessorTest {
+
+    @Test
+    public void testGeneratedBinderBindsConfiguration() {
+        ServerConfiguration configuration = new ConfigurationBinderProcessorTest_ServerConfiguration_ConfigurationBinder()
+                .bind(ConfigFactory.parseResources("org/conf4j/binder/processor/server.conf"));
+
+        assertServerConfiguration(configuration);
+    }
+
+    @Test
+    public void testMissingValuesBoundAsDefaults() {
+        ServerConfiguration configuration = new ConfigurationBinderProcessorTest_ServerConfiguration_ConfigurationBinder()
+                .bind(ConfigFactory.parseString("name: null"));
+
+        assertThat(configuration.name).isNull();
+        assertThat(configuration.port).isZero();
+        assertThat(configuration.maxFileSize).isNull();
+        assertThat(configuration.enabled).isFalse();
+        assertThat(configuration.tags).isNull();
+        assertThat(configuration.endpoint).isNull();
+    }
+
+    @Test
+    public void testGeneratedBinderUsedByConfigurationProvider() {
+        // ServerConfiguration has no Jackson creator, so it can only be bound by the generated binder
+        ConfigurationProvider<ServerConfiguration> provider = new ConfigurationProviderBuilder<>(ServerConfiguration.class)
+                .withConfigurationSource(ClasspathConfigurationSource.builder()
+                        .withResourcePath("org/conf4j/binder/processor/server.conf")
+                        .build())
+                .build();
+
+        assertServerConfiguration(provider.get());
+    }
+
+    @Test
+    public void testUnsupportedPropertyTypeReported() {
+        JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///test/InvalidConfiguration.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return "package test;\n" +
+                        "@org.conf4j.core.GenerateConfigurationBinder\n" +
+                        "public class InvalidConfiguration {\n" +
+                        "    public InvalidConfiguration(java.util.Optional<String> name) {}\n" +
+                        "}\n";
+            }
+        };
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = Arrays.asList("-proc:only", "-classpath", System.getProperty("java.class.path"),
+                "-processor", ConfigurationBinderProcessor.class.getName());
+        boolean compiled = compiler.getTask(null, null, diagnostics, options, null, Collections.singletonList(source)).call();
+
+        assertThat(compiled).isFalse();
+        assertThat(diagnostics.getDiagnostics())
+                .filteredOn(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .extracting(diagnostic -> diagnostic.getMessage(null))
+                .anyMatch(message -> message.contains("Unsupported type: java.util.Optional<java.lang.String>"));
+    }
+
+    private static void assertServerConfiguration(ServerConfiguration configuration) {
+        assertThat(configuration.name).isEqualTo("conf4j");
+        assertThat(configuration.port).isEqualTo(8080);
+        assertThat(configuration.maxFileSize).isEqualTo(10_000_000_000L);
+        assertThat(configuration.enabled).isTrue();
+        assertThat(configuration.timeout).isEqualTo(Duration.ofSeconds(5));
+        assertThat(configuration.mode).isEqualTo(Mode.PRIMARY);
+        assertThat(configuration.tags).containsExactly("a", "b");
+        assertThat(configuration.retryDelays).containsExactly(Duration.ofSeconds(1), Duration.ofSeconds(2));
+        assertThat(configuration.endpoint.host).isEqualTo("localhost");
+        assertThat(configuration.endpoint.port).isEqualTo(9090);
+    }
+
+    public enum Mode {
+        PRIMARY, SECONDARY
+    }
+
+    @GenerateConfigurationBinder
+    public static class ServerConfiguration {
+        final String name;
+        final int port;
+        final Long maxFileSize;
+        final boolean enabled;
+        final Duration timeout;
+        final Mode mode;
+        final List<String> tags;
+        final List<Duration> retryDelays;
+        final Endpoint endpoint;
+
+        ServerConfiguration(String name, int port, @JsonProperty("max-file-size") Long maxFileSize, boolean enabled,
+                            Duration timeout, Mode mode, List<String> tags, List<Duration> retryDelays, Endpoint endpoint) {
+            this.name = name;
+            this.port = port;
+            this.maxFileSize = maxFileSize;
+            this.enabled = enabled;
+            this.timeout = timeout;
+            this.mode = mode;
+            this.tags = tags;
+            this.retryDelays = retryDelays;
+            this.endpoint = endpoint;
+        }
+    }
+
+    @GenerateConfigurationBinder
+    public static class Endpoint {
+        final String host;
+        final int port;
+
+        @JsonCreator
+        Endpoint(@JsonProperty("host") String host, @JsonProperty("port") int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        Endpoint(String address) {
+            this(address.split(":")[0], Integer.parseInt(address.split(":")[1]));
+        }
+    }
+
+}
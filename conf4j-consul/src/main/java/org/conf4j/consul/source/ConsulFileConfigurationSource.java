@@ -62,7 +62,8 @@ public class ConsulFileConfigurationSource implements WatchableConfigurationSour
 
     @Override
     public void reload() {
-        configCache.set(this.buildConfigIfAbsent(null));
+        Config newConfig = buildConfigIfAbsent(null);
+        configCache.updateAndGet(currentConfig -> newConfig.equals(currentConfig) ? currentConfig : newConfig);
     }
 
     @Override
@@ -0,0 +1,33 @@
+package org.conf4j.core;
+
+/**
+ * Handle of the boolean value at a configuration path, kept up to date when the configuration is reloaded.
+ * Reading it is a single volatile read, without boxing or going through the configuration bean.
+ */
+public final class BooleanSetting {
+
+    private final String path;
+    private volatile boolean value;
+
+    BooleanSetting(String path) {
+        this.path = path;
+    }
+
+    public boolean get() {
+        return value;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    void set(boolean value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return path + " = " + value;
+    }
+
+}
@@ -0,0 +1,25 @@
+package org.conf4j.core;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+
+/**
+ * Receives the duration of each configuration change listener call, for example to publish it to a metrics registry.
+ */
+public interface ChangeListenerMetrics {
+
+    ChangeListenerMetrics NO_OP = (listener, duration) -> {};
+
+    void listenerNotified(BiConsumer<?, ?> listener, Duration duration);
+
+    /**
+     * Called once a listener has been running longer than the configured change listener timeout, while it's still
+     * running, so hanging listeners are reported too. {@link #listenerNotified(BiConsumer, Duration)} is still called
+     * if the listener returns.
+     *
+     * @param listener the slow listener
+     * @param duration how long the listener has been running
+     */
+    default void listenerTimedOut(BiConsumer<?, ?> listener, Duration duration) {}
+
+}
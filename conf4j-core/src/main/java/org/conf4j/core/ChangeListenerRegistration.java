@@ -0,0 +1,15 @@
+package org.conf4j.core;
+
+/**
+ * Handle of a registered configuration change listener, used to stop notifying the listener.
+ */
+public interface ChangeListenerRegistration extends AutoCloseable {
+
+    void unregister();
+
+    @Override
+    default void close() {
+        unregister();
+    }
+
+}
@@ -1,24 +1,70 @@
 package org.conf4j.core;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
 import static java.util.Objects.requireNonNull;
 
+/**
+ * Keeps the registered change listeners in a copy-on-write array: registering and unregistering are rare and copy
+ * the array, while notifying iterates a snapshot of it without locking or allocating, and is safe while listeners
+ * are registered concurrently.
+ */
 class ChangeListenersNotifier<T> {
 
     private static final Logger logger = LoggerFactory.getLogger(ChangeListenersNotifier.class);
     private static final String CHANGE_LISTENER_CANNOT_BE_NULL = "Change listener cannot be null";
 
-    private final List<BiConsumer<T, T>> configurationChangeListeners = new LinkedList<>();
+    private final Object registrationLock = new Object();
+    private volatile RegisteredListener<T>[] configurationChangeListeners = newListenersArray(0);
+    private final Executor executor;
+    private final Duration listenerTimeout;
+    private final ChangeListenerMetrics metrics;
+    private final boolean measureListeners;
 
-    void registerChangeListener(BiConsumer<T, T> listener) {
-        configurationChangeListeners.add(requireNonNull(listener, CHANGE_LISTENER_CANNOT_BE_NULL));
+    ChangeListenersNotifier() {
+        this(null, null, ChangeListenerMetrics.NO_OP);
+    }
+
+    /**
+     * @param executor executor to notify listeners on, or null to notify them on the reloading thread
+     * @param listenerTimeout duration after which a still running listener is reported, or null for no timeout
+     * @param metrics receives the duration of each listener call
+     */
+    ChangeListenersNotifier(Executor executor, Duration listenerTimeout, ChangeListenerMetrics metrics) {
+        this.executor = executor;
+        this.listenerTimeout = listenerTimeout;
+        this.metrics = requireNonNull(metrics);
+        this.measureListeners = listenerTimeout != null || metrics != ChangeListenerMetrics.NO_OP;
+    }
+
+    ChangeListenerRegistration registerChangeListener(BiConsumer<T, T> listener) {
+        requireNonNull(listener, CHANGE_LISTENER_CANNOT_BE_NULL);
+        Executor listenerExecutor = executor != null ? new SerialExecutor(executor) : null;
+        RegisteredListener<T> registeredListener = new RegisteredListener<>(listener, listenerExecutor);
+
+        synchronized (registrationLock) {
+            RegisteredListener<T>[] currentListeners = configurationChangeListeners;
+            RegisteredListener<T>[] newListeners = Arrays.copyOf(currentListeners, currentListeners.length + 1);
+            newListeners[currentListeners.length] = registeredListener;
+            configurationChangeListeners = newListeners;
+        }
+
+        return () -> unregisterChangeListener(registeredListener);
+    }
+
+    boolean hasListeners() {
+        return configurationChangeListeners.length > 0;
     }
 
     void notifyListenersOnConfigChangeIfNeeded(T oldConfig, T newConfig) {
@@ -27,23 +73,134 @@ class ChangeListenersNotifier<T> {
             return;
         }
 
-        if (configurationChangeListeners.isEmpty()) {
+        RegisteredListener<T>[] currentListeners = configurationChangeListeners;
+        if (currentListeners.length == 0) {
             logger.trace("No listener to notify");
             return;
         }
 
-        int numOfListeners = configurationChangeListeners.size();
-        logger.trace("Going to notifying {} listeners about configuration change", numOfListeners);
-        configurationChangeListeners.forEach(listener -> notifyChangeListenerSafely(() -> listener.accept(oldConfig, newConfig)));
-        logger.trace("{} listeners were notified about configuration change", numOfListeners);
+        if (logger.isTraceEnabled()) {
+            logger.trace("Going to notifying {} listeners about configuration change", currentListeners.length);
+        }
+
+        for (RegisteredListener<T> listener : currentListeners) {
+            notifyListener(listener, oldConfig, newConfig);
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace("{} listeners were notified about configuration change", currentListeners.length);
+        }
+    }
+
+    private void unregisterChangeListener(RegisteredListener<T> registeredListener) {
+        synchronized (registrationLock) {
+            RegisteredListener<T>[] currentListeners = configurationChangeListeners;
+            int index = Arrays.asList(currentListeners).indexOf(registeredListener);
+            if (index < 0) return;
+
+            RegisteredListener<T>[] newListeners = newListenersArray(currentListeners.length - 1);
+            System.arraycopy(currentListeners, 0, newListeners, 0, index);
+            System.arraycopy(currentListeners, index + 1, newListeners, index, currentListeners.length - index - 1);
+            configurationChangeListeners = newListeners;
+        }
+    }
+
+    private void notifyListener(RegisteredListener<T> listener, T oldConfig, T newConfig) {
+        if (listener.executor == null) {
+            notifyChangeListenerSafely(listener.listener, oldConfig, newConfig);
+            return;
+        }
+
+        try {
+            listener.executor.execute(() -> notifyChangeListenerSafely(listener.listener, oldConfig, newConfig));
+        } catch (Throwable t) {
+            logger.error("Failed submitting configuration change listener notification", t);
+        }
     }
 
-    private void notifyChangeListenerSafely(Runnable runnable) {
+    private void notifyChangeListenerSafely(BiConsumer<T, T> listener, T oldConfig, T newConfig) {
+        long startTime = measureListeners ? System.nanoTime() : 0;
+        ScheduledFuture<?> timeoutCheck = listenerTimeout != null ? scheduleTimeoutCheck(listener, startTime) : null;
         try {
-            runnable.run();
+            listener.accept(oldConfig, newConfig);
         } catch (Throwable t) {
             logger.error("Uncaught exception while notifying configuration change listener", t);
+        } finally {
+            if (timeoutCheck != null) timeoutCheck.cancel(false);
+            if (measureListeners) {
+                reportListenerDuration(listener, Duration.ofNanos(System.nanoTime() - startTime));
+            }
         }
     }
 
+    /**
+     * Reports the listener once it runs longer than the timeout, while it's still running, so a hanging listener
+     * is reported too and not only a slow one after it returns.
+     */
+    private ScheduledFuture<?> scheduleTimeoutCheck(BiConsumer<T, T> listener, long startTime) {
+        Thread listenerThread = Thread.currentThread();
+        try {
+            return TimeoutWatchdog.INSTANCE.schedule(() -> reportListenerTimeout(listener, listenerThread, startTime),
+                    listenerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (Throwable t) {
+            logger.error("Failed scheduling configuration change listener timeout check", t);
+            return null;
+        }
+    }
+
+    private void reportListenerTimeout(BiConsumer<T, T> listener, Thread listenerThread, long startTime) {
+        Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+        logger.warn("Configuration change listener on thread: {} is running for {}ms, exceeding the timeout of {}ms",
+                listenerThread.getName(), duration.toMillis(), listenerTimeout.toMillis());
+        try {
+            metrics.listenerTimedOut(listener, duration);
+        } catch (Throwable t) {
+            logger.error("Uncaught exception while reporting configuration change listener metrics", t);
+        }
+    }
+
+    private void reportListenerDuration(BiConsumer<T, T> listener, Duration duration) {
+        try {
+            metrics.listenerNotified(listener, duration);
+        } catch (Throwable t) {
+            logger.error("Uncaught exception while reporting configuration change listener metrics", t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> RegisteredListener<T>[] newListenersArray(int length) {
+        return (RegisteredListener<T>[]) new RegisteredListener<?>[length];
+    }
+
+    private static class TimeoutWatchdog {
+
+        private static final ScheduledThreadPoolExecutor INSTANCE = createWatchdog();
+
+        private static ScheduledThreadPoolExecutor createWatchdog() {
+            ScheduledThreadPoolExecutor watchdog = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                    .setNameFormat("conf4j-listener-watchdog-%d")
+                    .setDaemon(true)
+                    .build());
+            // Almost every check is cancelled when its listener returns in time, don't keep them queued until due
+            watchdog.setRemoveOnCancelPolicy(true);
+            return watchdog;
+        }
+
+    }
+
+    /**
+     * A listener together with the serial executor that keeps its notifications ordered when dispatching asynchronously.
+     */
+    private static class RegisteredListener<T> {
+
+        private final BiConsumer<T, T> listener;
+        private final Executor executor;
+
+        private RegisteredListener(BiConsumer<T, T> listener, Executor executor) {
+            this.listener = listener;
+            this.executor = executor;
+        }
+
+    }
+
 }
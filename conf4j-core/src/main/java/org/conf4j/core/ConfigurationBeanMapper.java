@@ -0,0 +1,164 @@
+package org.conf4j.core;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Maps loaded configuration to configuration beans, using a {@link ConfigurationBinder} of the configuration class
+ * when there is one and Jackson otherwise. All providers in the JVM share a single object mapper and an object reader
+ * per configuration class, so Jackson's deserializers for a bean type are built only once.
+ */
+final class ConfigurationBeanMapper<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConfigurationBeanMapper.class);
+
+    private static final String BINDER_CLASS_NAME_SUFFIX = "_ConfigurationBinder";
+
+    private static final ObjectMapper MAPPER = createObjectMapper();
+    private static final ClassValue<ObjectReader> READERS = new ClassValue<ObjectReader>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> configurationClass) {
+            return MAPPER.readerFor(configurationClass);
+        }
+    };
+
+    private static final ClassValue<Optional<ConfigurationBinder<?>>> GENERATED_BINDERS =
+            new ClassValue<Optional<ConfigurationBinder<?>>>() {
+                @Override
+                protected Optional<ConfigurationBinder<?>> computeValue(Class<?> configurationClass) {
+                    return findGeneratedBinder(configurationClass);
+                }
+            };
+
+    private final ConfigurationBinder<? extends T> binder;
+    private final ObjectReader reader;
+
+    ConfigurationBeanMapper(Class<? extends T> configurationClass) {
+        this(configurationClass, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    ConfigurationBeanMapper(Class<? extends T> configurationClass, ConfigurationBinder<? extends T> binder) {
+        requireNonNull(configurationClass);
+        this.binder = binder != null
+                ? binder
+                : (ConfigurationBinder<? extends T>) GENERATED_BINDERS.get(configurationClass).orElse(null);
+        this.reader = this.binder == null ? READERS.get(configurationClass) : null;
+    }
+
+    T map(Config config) {
+        return map(config, new ReusableInstances(Collections.emptyMap()));
+    }
+
+    /**
+     * Maps the config to a configuration bean. The config tree is written as tokens straight to a buffer Jackson reads
+     * the bean from, instead of copying it to nested maps and lists and serializing those first.
+     * Sub-objects equal to the given previous instances at the same path are replaced by them, and the mapped ones are
+     * collected, see {@link ReusableInstances}. It's up to the caller to reuse them for the next mapping only once
+     * the bean is accepted.
+     */
+    T map(Config config, ReusableInstances reusableInstances) {
+        if (binder != null) {
+            return binder.bind(config);
+        }
+
+        try {
+            TokenBuffer buffer = new TokenBuffer(MAPPER, false);
+            writeValue(config.root(), buffer);
+            return reader.withAttribute(ReusableInstances.class, reusableInstances)
+                    .readValue(buffer.asParser());
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private static void writeValue(ConfigValue value, JsonGenerator generator) throws IOException {
+        switch (value.valueType()) {
+            case OBJECT:
+                generator.writeStartObject();
+                for (Map.Entry<String, ConfigValue> entry : ((ConfigObject) value).entrySet()) {
+                    generator.writeFieldName(entry.getKey());
+                    writeValue(entry.getValue(), generator);
+                }
+                generator.writeEndObject();
+                break;
+            case LIST:
+                generator.writeStartArray();
+                for (ConfigValue element : (ConfigList) value) {
+                    writeValue(element, generator);
+                }
+                generator.writeEndArray();
+                break;
+            case NUMBER:
+                writeNumber((Number) value.unwrapped(), generator);
+                break;
+            case BOOLEAN:
+                generator.writeBoolean((Boolean) value.unwrapped());
+                break;
+            case STRING:
+                generator.writeString((String) value.unwrapped());
+                break;
+            case NULL:
+                generator.writeNull();
+                break;
+        }
+    }
+
+    private static void writeNumber(Number number, JsonGenerator generator) throws IOException {
+        if (number instanceof Integer) {
+            generator.writeNumber(number.intValue());
+        } else if (number instanceof Long) {
+            generator.writeNumber(number.longValue());
+        } else {
+            generator.writeNumber(number.doubleValue());
+        }
+    }
+
+    private static Optional<ConfigurationBinder<?>> findGeneratedBinder(Class<?> configurationClass) {
+        ClassLoader classLoader = configurationClass.getClassLoader();
+        if (classLoader == null) return Optional.empty();
+
+        String binderClassName = configurationClass.getName().replace('$', '_') + BINDER_CLASS_NAME_SUFFIX;
+        try {
+            Class<?> binderClass = Class.forName(binderClassName, true, classLoader);
+            if (!ConfigurationBinder.class.isAssignableFrom(binderClass)) {
+                logger.warn("Class: {} doesn't implement ConfigurationBinder, binding configuration with Jackson", binderClassName);
+                return Optional.empty();
+            }
+
+            logger.debug("Using generated binder: {} for configuration class: {}", binderClassName, configurationClass.getName());
+            return Optional.of((ConfigurationBinder<?>) binderClass.getConstructor().newInstance());
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.warn("Failed to create binder: {}, binding configuration with Jackson", binderClassName, e);
+            return Optional.empty();
+        }
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        mapper.registerModule(ReusableInstances.MODULE);
+        return mapper;
+    }
+
+}
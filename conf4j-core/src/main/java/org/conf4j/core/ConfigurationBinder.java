@@ -0,0 +1,20 @@
+package org.conf4j.core;
+
+import com.typesafe.config.Config;
+
+/**
+ * Binds a resolved config to a configuration bean directly, without Jackson and reflection, typically generated at
+ * build time for a configuration class annotated with {@link GenerateConfigurationBinder}. A binder named
+ * {@code <configuration class binary name with '$' replaced by '_'>_ConfigurationBinder}, placed next to the
+ * configuration class and having a public no-arg constructor, is used automatically; otherwise the configuration is
+ * bound by Jackson.
+ * Note: A binder instance is shared by all providers of its configuration class, so it must be thread-safe.
+ *
+ * @param <T> type of the configuration bean
+ */
+@FunctionalInterface
+public interface ConfigurationBinder<T> {
+
+    T bind(Config config);
+
+}
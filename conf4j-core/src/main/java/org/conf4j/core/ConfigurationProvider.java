@@ -1,5 +1,7 @@
 package org.conf4j.core;
 
+import com.typesafe.config.ConfigValue;
+
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -7,7 +9,64 @@ public interface ConfigurationProvider<T> extends AutoCloseable {
 
     T get();
     <C> ConfigurationProvider<C> createConfigurationProvider(Function<T, C> configurationExtractor);
-    void registerChangeListener(BiConsumer<T, T> listener);
+    ChangeListenerRegistration registerChangeListener(BiConsumer<T, T> listener);
+
+    /**
+     * Registers a listener notified when the value at the given HOCON path, or any value below it, changes.
+     * The listener receives the old and the new value at the path, {@code null} when the path is missing.
+     * Note: The path is relative to the config root path of the root provider, also for views.
+     *
+     * @param path HOCON path to watch, for example {@code db.pool.maxSize}
+     * @param listener listener notified about changes of the value at the path
+     * @return registration used to unregister the listener
+     */
+    default ChangeListenerRegistration registerPathChangeListener(String path, BiConsumer<ConfigValue, ConfigValue> listener) {
+        throw new UnsupportedOperationException("Path change listeners are not supported by: " + getClass().getName());
+    }
+
+    /**
+     * Returns a handle of the int value at the given HOCON path, updated whenever the configuration is reloaded.
+     * Note: The path is relative to the config root path of the root provider, also for views. A provider keeps one
+     * handle per path and type, requesting it again returns the same handle. When the value becomes missing or
+     * invalid, the handle keeps its last value.
+     *
+     * @param path HOCON path of the value
+     * @return handle of the value
+     */
+    default IntSetting intSetting(String path) {
+        throw new UnsupportedOperationException("Settings are not supported by: " + getClass().getName());
+    }
+
+    /**
+     * Returns a handle of the long value at the given HOCON path, see {@link #intSetting(String)}.
+     *
+     * @param path HOCON path of the value
+     * @return handle of the value
+     */
+    default LongSetting longSetting(String path) {
+        throw new UnsupportedOperationException("Settings are not supported by: " + getClass().getName());
+    }
+
+    /**
+     * Returns a handle of the boolean value at the given HOCON path, see {@link #intSetting(String)}.
+     *
+     * @param path HOCON path of the value
+     * @return handle of the value
+     */
+    default BooleanSetting booleanSetting(String path) {
+        throw new UnsupportedOperationException("Settings are not supported by: " + getClass().getName());
+    }
+
+    /**
+     * Returns a handle of the duration at the given HOCON path, in HOCON duration format like {@code 10s},
+     * see {@link #intSetting(String)}.
+     *
+     * @param path HOCON path of the value
+     * @return handle of the value
+     */
+    default DurationSetting durationSetting(String path) {
+        throw new UnsupportedOperationException("Settings are not supported by: " + getClass().getName());
+    }
 
     @Override
     default void close() throws Exception {}
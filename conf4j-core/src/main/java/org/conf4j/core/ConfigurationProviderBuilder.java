@@ -1,5 +1,7 @@
 package org.conf4j.core;
 
+import org.conf4j.core.ext.ConfigurationExtension;
+import org.conf4j.core.ext.ConfigurationExtensions;
 import org.conf4j.core.source.ConfigurationSource;
 import org.conf4j.core.source.MergeConfigurationSource;
 import org.conf4j.core.source.WatchableConfigurationSource;
@@ -7,9 +9,11 @@ import org.conf4j.core.source.reload.ReloadStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static java.util.Objects.requireNonNull;
 
@@ -19,11 +23,22 @@ public class ConfigurationProviderBuilder<T> {
 
     private Class<? extends T> configurationClass;
     private ConfigurationSource configurationSource;
+    private List<ConfigurationSource> fallbackSources;
     private List<ReloadStrategy> reloadStrategies;
     private String configRootPath;
+    private Executor sourcesReloadExecutor;
+    private Executor changeListenersExecutor;
+    private Duration changeListenerTimeout;
+    private ChangeListenerMetrics changeListenerMetrics = ChangeListenerMetrics.NO_OP;
+    private Duration reloadStrategiesStartTimeout;
+    private boolean startReloadStrategiesInBackground;
+    private InitializationMode initializationMode = InitializationMode.EAGER;
+    private ConfigurationBinder<? extends T> configurationBinder;
+    private List<ConfigurationExtension> extensions;
 
     public ConfigurationProviderBuilder(Class<? extends T> configurationClass) {
         this.configurationClass = configurationClass;
+        this.fallbackSources = new ArrayList<>();
         this.reloadStrategies = new ArrayList<>();
         this.configRootPath = "";
     }
@@ -35,9 +50,9 @@ public class ConfigurationProviderBuilder<T> {
     }
 
     public ConfigurationProviderBuilder<T> withFallbacks(ConfigurationSource fallbackSource, ConfigurationSource... otherFallbacks) {
-        addFallbackAsMergeConfigurationSource(fallbackSource);
+        addFallbackSource(fallbackSource);
         if (otherFallbacks != null) {
-            Arrays.stream(otherFallbacks).forEach(this::addFallbackAsMergeConfigurationSource);
+            Arrays.stream(otherFallbacks).forEach(this::addFallbackSource);
         }
 
         return this;
@@ -59,16 +74,162 @@ public class ConfigurationProviderBuilder<T> {
         return this;
     }
 
+    /**
+     * Reload the configuration source and all fallbacks concurrently on the given executor instead of one after
+     * another, so the reload takes as long as the slowest source instead of the sum of all of them.
+     *
+     * @param sourcesReloadExecutor executor to reload the sources on
+     * @return this builder
+     */
+    public ConfigurationProviderBuilder<T> withSourcesReloadExecutor(Executor sourcesReloadExecutor) {
+        requireNonNull(sourcesReloadExecutor, "Sources reload executor cannot be null");
+        this.sourcesReloadExecutor = sourcesReloadExecutor;
+        return this;
+    }
+
+    /**
+     * Notify change listeners on the given executor instead of the reloading thread, so a slow listener doesn't delay
+     * other listeners or the next reload. Each listener is still notified about changes one at a time, in order.
+     * Note: Views created from the provider are updated by a change listener too, so they may briefly lag behind
+     * the provider itself.
+     *
+     * @param changeListenersExecutor executor to notify change listeners on, for example a virtual thread per task executor
+     * @return this builder
+     */
+    public ConfigurationProviderBuilder<T> withChangeListenersExecutor(Executor changeListenersExecutor) {
+        requireNonNull(changeListenersExecutor, "Change listeners executor cannot be null");
+        this.changeListenersExecutor = changeListenersExecutor;
+        return this;
+    }
+
+    /**
+     * Report change listeners that run longer than the given timeout, by a warning log and
+     * {@link ChangeListenerMetrics#listenerTimedOut}, while they are still running, so hanging listeners are reported.
+     * Listeners are not interrupted, later notifications of an asynchronously notified listener wait for it.
+     *
+     * @param changeListenerTimeout maximal expected duration of a single change listener call
+     * @return this builder
+     */
+    public ConfigurationProviderBuilder<T> withChangeListenerTimeout(Duration changeListenerTimeout) {
+        requireNonNull(changeListenerTimeout, "Change listener timeout cannot be null");
+        this.changeListenerTimeout = changeListenerTimeout;
+        return this;
+    }
+
+    public ConfigurationProviderBuilder<T> withChangeListenerMetrics(ChangeListenerMetrics changeListenerMetrics) {
+        requireNonNull(changeListenerMetrics, "Change listener metrics cannot be null");
+        this.changeListenerMetrics = changeListenerMetrics;
+        return this;
+    }
+
+    /**
+     * Limit how long {@link #build()} waits for reload strategies to start, for example for consul watches
+     * to initialize. Strategies that didn't start in time keep starting in background.
+     *
+     * @param reloadStrategiesStartTimeout maximal time to wait for all reload strategies to start
+     * @return this builder
+     */
+    public ConfigurationProviderBuilder<T> withReloadStrategiesStartTimeout(Duration reloadStrategiesStartTimeout) {
+        requireNonNull(reloadStrategiesStartTimeout, "Reload strategies start timeout cannot be null");
+        this.reloadStrategiesStartTimeout = reloadStrategiesStartTimeout;
+        return this;
+    }
+
+    /**
+     * Start reload strategies in background instead of waiting for them in {@link #build()}. The initial
+     * configuration is still loaded on build, changes are only picked up once the strategies started.
+     *
+     * @return this builder
+     */
+    public ConfigurationProviderBuilder<T> startReloadStrategiesInBackground() {
+        this.startReloadStrategiesInBackground = true;
+        return this;
+    }
+
+    /**
+     * Defer loading the configuration and starting reload strategies until the first {@link ConfigurationProvider#get()}
+     * call, keeping the cost off startup for providers that are not needed right away. Note: configuration errors
+     * are then reported by the first {@code get()} instead of {@link #build()}.
+     *
+     * @return this builder
+     */
+    public ConfigurationProviderBuilder<T> lazyInitialization() {
+        this.initializationMode = InitializationMode.LAZY;
+        return this;
+    }
+
+    /**
+     * Load the configuration and start reload strategies in background on a shared executor, starting when the
+     * provider is built. {@link ConfigurationProvider#get()} only waits if the load didn't finish yet, and loads
+     * the configuration itself if it failed in background.
+     *
+     * @return this builder
+     */
+    public ConfigurationProviderBuilder<T> initializeInBackground() {
+        this.initializationMode = InitializationMode.BACKGROUND;
+        return this;
+    }
+
+    /**
+     * Bind the configuration with the given binder instead of a generated binder found next to the configuration
+     * class, or Jackson.
+     *
+     * @param configurationBinder binder creating configuration beans from the loaded config
+     * @return this builder
+     */
+    public ConfigurationProviderBuilder<T> withConfigurationBinder(ConfigurationBinder<? extends T> configurationBinder) {
+        requireNonNull(configurationBinder, "Configuration binder cannot be null");
+        this.configurationBinder = configurationBinder;
+        return this;
+    }
+
+    /**
+     * Use the given extensions instead of discovering extensions on the classpath, skipping the classpath scan.
+     * Call without arguments to build a provider without any extension. The extensions are closed with the provider.
+     *
+     * @param extensions extensions to run while loading the configuration
+     * @return this builder
+     */
+    public ConfigurationProviderBuilder<T> withExtensions(ConfigurationExtension... extensions) {
+        requireNonNull(extensions, "Extensions cannot be null");
+        this.extensions = Arrays.asList(extensions);
+        return this;
+    }
+
     public ConfigurationProvider<T> build() {
-        return new RootConfigurationProvider<>(configurationClass, configurationSource, reloadStrategies, configRootPath);
+        Executor listenersExecutor = changeListenersExecutor;
+        Duration listenerTimeout = changeListenerTimeout;
+        ChangeListenerMetrics listenerMetrics = changeListenerMetrics;
+        ChangeListenersNotifier<T> changeListenersNotifier = new ChangeListenersNotifier<>(listenersExecutor,
+                listenerTimeout, listenerMetrics);
+        PathChangeListeners pathChangeListeners = new PathChangeListeners(() -> new ChangeListenersNotifier<>(
+                listenersExecutor, listenerTimeout, listenerMetrics));
+
+        return new RootConfigurationProvider<>(configurationClass, buildConfigurationSource(), reloadStrategies,
+                configRootPath, changeListenersNotifier, pathChangeListeners, reloadStrategiesStartTimeout,
+                startReloadStrategiesInBackground, initializationMode,
+                new ConfigurationBeanMapper<>(configurationClass, configurationBinder),
+                extensions != null ? new ConfigurationExtensions(extensions) : new ConfigurationExtensions());
     }
 
-    private void addFallbackAsMergeConfigurationSource(ConfigurationSource fallbackSource) {
-        this.configurationSource = MergeConfigurationSource.builder()
-                .withSource(this.configurationSource)
-                .withFallback(fallbackSource)
-                .build();
+    private ConfigurationSource buildConfigurationSource() {
+        if (fallbackSources.isEmpty()) {
+            return configurationSource;
+        }
+
+        MergeConfigurationSource.Builder mergeSourceBuilder = MergeConfigurationSource.builder()
+                .withSource(configurationSource)
+                .withFallbacks(fallbackSources);
+        if (sourcesReloadExecutor != null) {
+            mergeSourceBuilder.withReloadExecutor(sourcesReloadExecutor);
+        }
+
+        return mergeSourceBuilder.build();
+    }
 
+    private void addFallbackSource(ConfigurationSource fallbackSource) {
+        requireNonNull(fallbackSource, "Fallback source should not be null");
+        fallbackSources.add(fallbackSource);
         addReloadStrategyIfNeeded(fallbackSource);
     }
 
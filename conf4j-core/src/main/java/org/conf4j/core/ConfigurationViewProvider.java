@@ -1,27 +1,49 @@
 package org.conf4j.core;
 
+import com.typesafe.config.ConfigValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
 
+/**
+ * Provides a part of its parent's configuration, extracted whenever the parent's configuration changes.
+ * A view without change listeners, neither its own nor of views created from it, is only weakly referenced by its
+ * parent, so views that are no longer used are unregistered from the parent on its next change. A view with change
+ * listeners, and every view between it and the root, stays registered until it's closed or all of those listeners
+ * are unregistered.
+ */
 public class ConfigurationViewProvider<R, T> implements ConfigurationProvider<T> {
 
+    private static final Logger logger = LoggerFactory.getLogger(ConfigurationViewProvider.class);
+
     private final ConfigurationProvider<R> parentConfigurationProvider;
     private final Function<R, T> configurationExtractor;
     private final ChangeListenersNotifier<T> changeListenersNotifier;
+    private final AtomicReference<T> configurationCache = new AtomicReference<>();
+    private final ParentChangeListener<R> parentChangeListener;
+    // Change listeners of this view and of the views created from it, each of them holds this view strongly
+    private int numOfHeldChangeListeners;
 
     ConfigurationViewProvider(ConfigurationProvider<R> parentConfigurationProvider, Function<R, T> configurationExtractor) {
         this.parentConfigurationProvider = requireNonNull(parentConfigurationProvider);
         this.configurationExtractor = requireNonNull(configurationExtractor);
         this.changeListenersNotifier = new ChangeListenersNotifier<>();
+        this.parentChangeListener = new ParentChangeListener<>(this);
 
-        parentConfigurationProvider.registerChangeListener(this::parentConfigurationChanged);
+        parentChangeListener.registration = registerOnParent(parentConfigurationProvider, parentChangeListener);
+        configurationCache.compareAndSet(null, configurationExtractor.apply(parentConfigurationProvider.get()));
     }
 
     @Override
     public T get() {
-        return configurationExtractor.apply(parentConfigurationProvider.get());
+        return configurationCache.get();
     }
 
     @Override
@@ -30,14 +52,114 @@ public class ConfigurationViewProvider<R, T> implements ConfigurationProvider<T>
     }
 
     @Override
-    public void registerChangeListener(BiConsumer<T, T> listener) {
-        changeListenersNotifier.registerChangeListener(listener);
+    public ChangeListenerRegistration registerChangeListener(BiConsumer<T, T> listener) {
+        ChangeListenerRegistration registration = changeListenersNotifier.registerChangeListener(listener);
+        holdStrongly();
+
+        AtomicBoolean unregistered = new AtomicBoolean();
+        return () -> {
+            if (!unregistered.compareAndSet(false, true)) return;
+
+            registration.unregister();
+            releaseStrongHold();
+        };
+    }
+
+    @Override
+    public ChangeListenerRegistration registerPathChangeListener(String path, BiConsumer<ConfigValue, ConfigValue> listener) {
+        return parentConfigurationProvider.registerPathChangeListener(path, listener);
+    }
+
+    @Override
+    public IntSetting intSetting(String path) {
+        return parentConfigurationProvider.intSetting(path);
+    }
+
+    @Override
+    public LongSetting longSetting(String path) {
+        return parentConfigurationProvider.longSetting(path);
+    }
+
+    @Override
+    public BooleanSetting booleanSetting(String path) {
+        return parentConfigurationProvider.booleanSetting(path);
+    }
+
+    @Override
+    public DurationSetting durationSetting(String path) {
+        return parentConfigurationProvider.durationSetting(path);
+    }
+
+    /**
+     * Stops this view from following changes of its parent's configuration.
+     */
+    @Override
+    public void close() {
+        parentChangeListener.registration.unregister();
     }
 
     private void parentConfigurationChanged(R oldParentConfig, R newParentConfig) {
-        T oldConfig = configurationExtractor.apply(oldParentConfig);
         T newConfig = configurationExtractor.apply(newParentConfig);
+        T oldConfig = configurationCache.getAndSet(newConfig);
         changeListenersNotifier.notifyListenersOnConfigChangeIfNeeded(oldConfig, newConfig);
     }
 
+    /**
+     * Holds this view and all of its ancestor views strongly, so a listener of a view keeps working even when the
+     * views in between aren't referenced by the caller. Locks are taken from the child towards the root only.
+     */
+    private synchronized void holdStrongly() {
+        if (numOfHeldChangeListeners++ > 0) return;
+
+        parentChangeListener.strongViewReference = this;
+        if (parentConfigurationProvider instanceof ConfigurationViewProvider) {
+            ((ConfigurationViewProvider<?, R>) parentConfigurationProvider).holdStrongly();
+        }
+    }
+
+    private synchronized void releaseStrongHold() {
+        if (--numOfHeldChangeListeners > 0) return;
+
+        parentChangeListener.strongViewReference = null;
+        if (parentConfigurationProvider instanceof ConfigurationViewProvider) {
+            ((ConfigurationViewProvider<?, R>) parentConfigurationProvider).releaseStrongHold();
+        }
+    }
+
+    /**
+     * Registers directly on a parent view's notifier, so the parent view isn't held strongly on behalf of its children.
+     */
+    private static <R> ChangeListenerRegistration registerOnParent(ConfigurationProvider<R> parentConfigurationProvider,
+                                                                   BiConsumer<R, R> listener) {
+        if (parentConfigurationProvider instanceof ConfigurationViewProvider) {
+            return ((ConfigurationViewProvider<?, R>) parentConfigurationProvider).changeListenersNotifier.registerChangeListener(listener);
+        }
+
+        return parentConfigurationProvider.registerChangeListener(listener);
+    }
+
+    private static class ParentChangeListener<R> implements BiConsumer<R, R> {
+
+        private final WeakReference<ConfigurationViewProvider<R, ?>> viewReference;
+        private volatile ConfigurationViewProvider<R, ?> strongViewReference;
+        private volatile ChangeListenerRegistration registration;
+
+        private ParentChangeListener(ConfigurationViewProvider<R, ?> view) {
+            this.viewReference = new WeakReference<>(view);
+        }
+
+        @Override
+        public void accept(R oldParentConfig, R newParentConfig) {
+            ConfigurationViewProvider<R, ?> view = viewReference.get();
+            if (view == null) {
+                logger.trace("Configuration view is no longer referenced, unregistering it from its parent");
+                registration.unregister();
+                return;
+            }
+
+            view.parentConfigurationChanged(oldParentConfig, newParentConfig);
+        }
+
+    }
+
 }
@@ -0,0 +1,50 @@
+package org.conf4j.core;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handle of the duration at a configuration path, kept up to date when the configuration is reloaded.
+ * The duration is kept in nanoseconds, reading it as a number is a single volatile read without allocation.
+ */
+public final class DurationSetting {
+
+    private final String path;
+    private volatile long nanos;
+
+    DurationSetting(String path) {
+        this.path = path;
+    }
+
+    public long toNanos() {
+        return nanos;
+    }
+
+    public long toMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Returns the current duration.
+     * Note: Creates a new {@link Duration} on each call, prefer {@link #toNanos()} or {@link #toMillis()} on hot paths.
+     *
+     * @return the current duration
+     */
+    public Duration get() {
+        return Duration.ofNanos(nanos);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    void set(Duration duration) {
+        this.nanos = duration.toNanos();
+    }
+
+    @Override
+    public String toString() {
+        return path + " = " + get();
+    }
+
+}
@@ -0,0 +1,18 @@
+package org.conf4j.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a configuration class to get a {@link ConfigurationBinder} generated at build time by the
+ * {@code conf4j-binder-processor} annotation processor. The generated binder calls the constructor annotated with
+ * {@code @JsonCreator}, or the only constructor, and is picked up automatically instead of binding with Jackson.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateConfigurationBinder {
+}
@@ -0,0 +1,23 @@
+package org.conf4j.core;
+
+/**
+ * When a root provider loads its configuration and starts its reload strategies.
+ */
+enum InitializationMode {
+
+    /**
+     * While the provider is built.
+     */
+    EAGER,
+
+    /**
+     * On the first {@link ConfigurationProvider#get()} call.
+     */
+    LAZY,
+
+    /**
+     * In background, starting when the provider is built; {@link ConfigurationProvider#get()} waits for it if needed.
+     */
+    BACKGROUND
+
+}
@@ -0,0 +1,33 @@
+package org.conf4j.core;
+
+/**
+ * Handle of the int value at a configuration path, kept up to date when the configuration is reloaded.
+ * Reading it is a single volatile read, without boxing or going through the configuration bean.
+ */
+public final class IntSetting {
+
+    private final String path;
+    private volatile int value;
+
+    IntSetting(String path) {
+        this.path = path;
+    }
+
+    public int get() {
+        return value;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    void set(int value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return path + " = " + value;
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.conf4j.core;
+
+/**
+ * Handle of the long value at a configuration path, kept up to date when the configuration is reloaded.
+ * Reading it is a single volatile read, without boxing or going through the configuration bean.
+ */
+public final class LongSetting {
+
+    private final String path;
+    private volatile long value;
+
+    LongSetting(String path) {
+        this.path = path;
+    }
+
+    public long get() {
+        return value;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    void set(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return path + " = " + value;
+    }
+
+}
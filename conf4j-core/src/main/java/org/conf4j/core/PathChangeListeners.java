@@ -0,0 +1,114 @@
+package org.conf4j.core;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigUtil;
+import com.typesafe.config.ConfigValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Change listeners subscribed to paths of the loaded config. On reload, the old and the new config are diffed once,
+ * and only listeners of changed paths, or of paths above a changed value, are notified.
+ */
+class PathChangeListeners {
+
+    private final Supplier<ChangeListenersNotifier<ConfigValue>> notifierFactory;
+    private final ConcurrentMap<String, ChangeListenersNotifier<ConfigValue>> notifiersByPath = new ConcurrentHashMap<>();
+
+    PathChangeListeners(Supplier<ChangeListenersNotifier<ConfigValue>> notifierFactory) {
+        this.notifierFactory = requireNonNull(notifierFactory);
+    }
+
+    /**
+     * Registers the listener, the notifier of a path is removed once its last listener is unregistered, so paths
+     * nobody listens to anymore don't keep reloads diffing the configuration. Both happen atomically per path.
+     */
+    ChangeListenerRegistration registerChangeListener(String path, BiConsumer<ConfigValue, ConfigValue> listener) {
+        requireNonNull(path, "Path cannot be null");
+        String normalizedPath = ConfigUtil.joinPath(ConfigUtil.splitPath(path));
+        AtomicReference<ChangeListenerRegistration> registration = new AtomicReference<>();
+        notifiersByPath.compute(normalizedPath, (ignored, notifier) -> {
+            ChangeListenersNotifier<ConfigValue> pathNotifier = notifier != null ? notifier : notifierFactory.get();
+            registration.set(pathNotifier.registerChangeListener(listener));
+            return pathNotifier;
+        });
+
+        return () -> notifiersByPath.computeIfPresent(normalizedPath, (ignored, notifier) -> {
+            registration.get().unregister();
+            return notifier.hasListeners() ? notifier : null;
+        });
+    }
+
+    void notifyListenersOnConfigChange(Config oldConfig, Config newConfig) {
+        if (notifiersByPath.isEmpty() || oldConfig == null) return;
+
+        List<List<String>> changedPaths = new ArrayList<>();
+        diff(new ArrayList<>(), oldConfig.root(), newConfig.root(), changedPaths);
+
+        // Notifiers are looked up once, a notifier removed meanwhile by its last listener unregistering is skipped
+        Map<String, ChangeListenersNotifier<ConfigValue>> notifiersToNotify = new LinkedHashMap<>();
+        Set<String> visitedPrefixes = new HashSet<>();
+        for (List<String> changedPath : changedPaths) {
+            for (int i = changedPath.size(); i > 0; i--) {
+                String prefix = ConfigUtil.joinPath(changedPath.subList(0, i));
+                if (!visitedPrefixes.add(prefix)) break;
+                ChangeListenersNotifier<ConfigValue> notifier = notifiersByPath.get(prefix);
+                if (notifier != null) notifiersToNotify.put(prefix, notifier);
+            }
+        }
+
+        notifiersToNotify.forEach((path, notifier) ->
+                notifier.notifyListenersOnConfigChangeIfNeeded(valueAt(oldConfig, path), valueAt(newConfig, path)));
+    }
+
+    /**
+     * Collects paths of values which differ between the old and the new value. Objects are compared key by key,
+     * a missing object is compared as an empty one, so each changed leaf is reported with its full path.
+     */
+    private static void diff(List<String> path, ConfigValue oldValue, ConfigValue newValue, List<List<String>> changedPaths) {
+        if (oldValue == newValue) return;
+
+        boolean oldIsObject = oldValue instanceof ConfigObject;
+        boolean newIsObject = newValue instanceof ConfigObject;
+        if (!oldIsObject && !newIsObject) {
+            if (!Objects.equals(oldValue, newValue)) changedPaths.add(new ArrayList<>(path));
+            return;
+        }
+
+        if (oldIsObject != newIsObject && !path.isEmpty()) {
+            changedPaths.add(new ArrayList<>(path));
+        }
+
+        ConfigObject oldObject = oldIsObject ? (ConfigObject) oldValue : null;
+        ConfigObject newObject = newIsObject ? (ConfigObject) newValue : null;
+        Set<String> keys = new LinkedHashSet<>(oldIsObject ? oldObject.keySet() : Collections.emptySet());
+        if (newIsObject) keys.addAll(newObject.keySet());
+
+        for (String key : keys) {
+            path.add(key);
+            diff(path, oldIsObject ? oldObject.get(key) : null, newIsObject ? newObject.get(key) : null, changedPaths);
+            path.remove(path.size() - 1);
+        }
+    }
+
+    private static ConfigValue valueAt(Config config, String path) {
+        return config.hasPath(path) ? config.getValue(path) : null;
+    }
+
+}
@@ -0,0 +1,115 @@
+package org.conf4j.core;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Beans, collections and maps bound by the previous load of a provider, by their JSON path in the configuration tree.
+ * While binding the next load, a sub-object equal to the previous instance at the same path is replaced by it.
+ * Sub-objects are bound bottom-up, so unchanged parts of a reloaded configuration, up to the whole configuration, keep
+ * their identity and can be compared by reference, while equal sub-objects at different paths stay distinct instances.
+ * Note: Only classes implementing {@code equals} can be reused.
+ */
+final class ReusableInstances {
+
+    /**
+     * Jackson module reusing instances of the {@link ReusableInstances} set as deserialization context attribute.
+     */
+    static final Module MODULE = new SimpleModule("conf4j-reusable-instances")
+            .setDeserializerModifier(new ReusingDeserializerModifier());
+
+    private final Map<String, Object> previousInstances;
+    private final Map<String, Object> instances = new HashMap<>();
+
+    ReusableInstances(Map<String, Object> previousInstances) {
+        this.previousInstances = requireNonNull(previousInstances);
+    }
+
+    Object reuse(String path, Object value) {
+        if (value == null) return null;
+
+        Object previousInstance = previousInstances.get(path);
+        Object instance = previousInstance != null && previousInstance.getClass() == value.getClass()
+                && previousInstance.equals(value)
+                ? previousInstance
+                : value;
+        instances.put(path, instance);
+        return instance;
+    }
+
+    Map<String, Object> instances() {
+        return instances;
+    }
+
+    private static class ReusingDeserializerModifier extends BeanDeserializerModifier {
+
+        @Override
+        public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                                                      JsonDeserializer<?> deserializer) {
+            return deserializer instanceof BeanDeserializerBase ? new ReusingDeserializer(deserializer) : deserializer;
+        }
+
+        @Override
+        public JsonDeserializer<?> modifyCollectionDeserializer(DeserializationConfig config, CollectionType type,
+                                                                BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+            return new ReusingDeserializer(deserializer);
+        }
+
+        @Override
+        public JsonDeserializer<?> modifyMapDeserializer(DeserializationConfig config, MapType type,
+                                                         BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+            return new ReusingDeserializer(deserializer);
+        }
+
+    }
+
+    private static class ReusingDeserializer extends DelegatingDeserializer {
+
+        private ReusingDeserializer(JsonDeserializer<?> delegatee) {
+            super(delegatee);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new ReusingDeserializer(newDelegatee);
+        }
+
+        @Override
+        public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            ReusableInstances reusableInstances = (ReusableInstances) context.getAttribute(ReusableInstances.class);
+            if (reusableInstances == null) {
+                return super.deserialize(parser, context);
+            }
+
+            // Taken before binding, the parser is past the value afterwards
+            String path = parser.getParsingContext().pathAsPointer().toString();
+            return reusableInstances.reuse(path, super.deserialize(parser, context));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonDeserializer<Object> unwrappingDeserializer(NameTransformer unwrapper) {
+            // Properties of unwrapped beans are bound into their parent, there is no separate instance to reuse
+            return (JsonDeserializer<Object>) _delegatee.unwrappingDeserializer(unwrapper);
+        }
+
+    }
+
+}
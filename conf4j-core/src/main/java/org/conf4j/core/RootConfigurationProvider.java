@@ -1,20 +1,31 @@
 package org.conf4j.core;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.base.Throwables;
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigUtil;
+import com.typesafe.config.ConfigValue;
 import org.conf4j.core.ext.ConfigurationExtensions;
 import org.conf4j.core.source.ConfigurationSource;
 import org.conf4j.core.source.reload.ReloadStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
@@ -24,33 +35,74 @@ public class RootConfigurationProvider<T> implements ConfigurationProvider<T> {
     private static final Logger logger = LoggerFactory.getLogger(RootConfigurationProvider.class);
     private static final String EMPTY_STRING = "";
 
-    private final ChangeListenersNotifier<T> changeListenersNotifier = new ChangeListenersNotifier<>();
-    private final ConfigurationExtensions configurationExtensions = new ConfigurationExtensions();
+    private final ConfigurationExtensions configurationExtensions;
     private final AtomicReference<T> configurationCache = new AtomicReference<>();
+    private final AtomicReference<Config> loadedSourceConfig = new AtomicReference<>();
+    private final AtomicReference<Config> loadedConfig = new AtomicReference<>();
+    private volatile Map<String, Object> reusableInstances = Collections.emptyMap();
+    private final AtomicInteger reloadRequests = new AtomicInteger();
 
-    private final ObjectMapper mapper;
+    private final ConfigurationBeanMapper<T> beanMapper;
+    private final ChangeListenersNotifier<T> changeListenersNotifier;
+    private final PathChangeListeners pathChangeListeners;
+    private final PathChangeListeners settingUpdaters = new PathChangeListeners(ChangeListenersNotifier::new);
+    private final ConcurrentMap<String, Object> settings = new ConcurrentHashMap<>();
     private final Class<? extends T> configurationClass;
     private final ConfigurationSource configurationSource;
     private final List<ReloadStrategy> reloadStrategies;
     private final String configRootPath;
+    private final Duration reloadStrategiesStartTimeout;
+    private final boolean startReloadStrategiesInBackground;
+    private volatile CompletableFuture<Void> reloadStrategiesStart = CompletableFuture.completedFuture(null);
+    private volatile CompletableFuture<Void> backgroundInitialization = CompletableFuture.completedFuture(null);
+    private volatile boolean closed;
+    private final Object initializationLock = new Object();
+    // Guards closed and publishing reloadStrategiesStart, so close() waits for any start that wasn't prevented
+    private final Object reloadStrategiesLock = new Object();
 
     RootConfigurationProvider(Class<? extends T> configurationClass,
                               ConfigurationSource configurationSource,
                               List<ReloadStrategy> reloadStrategies,
-                              String configRootPath) {
+                              String configRootPath,
+                              ChangeListenersNotifier<T> changeListenersNotifier,
+                              PathChangeListeners pathChangeListeners,
+                              Duration reloadStrategiesStartTimeout,
+                              boolean startReloadStrategiesInBackground,
+                              InitializationMode initializationMode,
+                              ConfigurationBeanMapper<T> beanMapper,
+                              ConfigurationExtensions configurationExtensions) {
         this.configurationClass = requireNonNull(configurationClass);
         this.configurationSource = requireNonNull(configurationSource);
         this.reloadStrategies = requireNonNull(reloadStrategies);
         this.configRootPath = requireNonNull(configRootPath);
-        this.mapper = createObjectMapper();
+        this.changeListenersNotifier = requireNonNull(changeListenersNotifier);
+        this.pathChangeListeners = requireNonNull(pathChangeListeners);
+        this.reloadStrategiesStartTimeout = reloadStrategiesStartTimeout;
+        this.startReloadStrategiesInBackground = startReloadStrategiesInBackground;
+        this.beanMapper = requireNonNull(beanMapper);
+        this.configurationExtensions = requireNonNull(configurationExtensions);
 
-        configurationCache.set(loadConfiguration());
-        startReloadStrategies();
+        switch (requireNonNull(initializationMode)) {
+            case EAGER:
+                initialize();
+                break;
+            case BACKGROUND:
+                backgroundInitialization = CompletableFuture.runAsync(this::initialize, StartupExecutor.INSTANCE)
+                        .whenComplete((ignored, t) -> {
+                            if (t != null) logger.error("Failed to initialize configuration in background", t);
+                        });
+                break;
+            case LAZY:
+                logger.debug("Deferring configuration initialization until first access");
+                break;
+        }
     }
 
     @Override
     public T get() {
-        return configurationCache.updateAndGet(this::buildConfigObjectIfNeeded);
+        T currentConfig = configurationCache.get();
+        if (currentConfig != null) return currentConfig;
+        return initialize();
     }
 
     @Override
@@ -59,13 +111,104 @@ public class RootConfigurationProvider<T> implements ConfigurationProvider<T> {
     }
 
     @Override
-    public void registerChangeListener(BiConsumer<T, T> listener) {
-        changeListenersNotifier.registerChangeListener(listener);
+    public ChangeListenerRegistration registerChangeListener(BiConsumer<T, T> listener) {
+        return changeListenersNotifier.registerChangeListener(listener);
     }
 
-    private T buildConfigObjectIfNeeded(T currentConfig) {
-        if (currentConfig != null) return currentConfig;
-        return loadConfiguration();
+    @Override
+    public ChangeListenerRegistration registerPathChangeListener(String path, BiConsumer<ConfigValue, ConfigValue> listener) {
+        return pathChangeListeners.registerChangeListener(path, listener);
+    }
+
+    @Override
+    public IntSetting intSetting(String path) {
+        return setting(path, IntSetting.class, IntSetting::new, (setting, config) -> setting.set(config.getInt(path)));
+    }
+
+    @Override
+    public LongSetting longSetting(String path) {
+        return setting(path, LongSetting.class, LongSetting::new, (setting, config) -> setting.set(config.getLong(path)));
+    }
+
+    @Override
+    public BooleanSetting booleanSetting(String path) {
+        return setting(path, BooleanSetting.class, BooleanSetting::new,
+                (setting, config) -> setting.set(config.getBoolean(path)));
+    }
+
+    @Override
+    public DurationSetting durationSetting(String path) {
+        return setting(path, DurationSetting.class, DurationSetting::new,
+                (setting, config) -> setting.set(config.getDuration(path)));
+    }
+
+    /**
+     * Returns the setting of the given type at the path, creating and registering it on first use, so handles
+     * requested repeatedly, for example per request, don't add registrations slowing down every reload.
+     * Settings are updated synchronously, before any change listener is notified, and under a lock, so a setting
+     * created during a reload can't miss it. When the initial value can't be read, the setting isn't registered
+     * and the error is thrown.
+     */
+    private <S> S setting(String path, Class<S> settingClass, Function<String, S> settingFactory,
+                          BiConsumer<S, Config> settingUpdater) {
+        requireNonNull(path, "Path cannot be null");
+        String settingKey = settingClass.getName() + ':' + ConfigUtil.joinPath(ConfigUtil.splitPath(path));
+        Object existingSetting = settings.get(settingKey);
+        if (existingSetting != null) return settingClass.cast(existingSetting);
+
+        get();
+        synchronized (settingUpdaters) {
+            existingSetting = settings.get(settingKey);
+            if (existingSetting != null) return settingClass.cast(existingSetting);
+
+            S setting = settingFactory.apply(path);
+            Consumer<Config> updater = config -> settingUpdater.accept(setting, config);
+            ChangeListenerRegistration registration = settingUpdaters.registerChangeListener(path,
+                    (oldValue, newValue) -> updateSetting(path, newValue, updater));
+            try {
+                updater.accept(loadedConfig.get());
+            } catch (RuntimeException e) {
+                registration.unregister();
+                throw e;
+            }
+
+            settings.put(settingKey, setting);
+            return setting;
+        }
+    }
+
+    private void updateSetting(String path, ConfigValue newValue, Consumer<Config> settingUpdater) {
+        if (newValue == null) {
+            logger.warn("Setting at path: {} was removed from configuration, keeping its last value", path);
+            return;
+        }
+
+        synchronized (settingUpdaters) {
+            try {
+                settingUpdater.accept(loadedConfig.get());
+            } catch (ConfigException e) {
+                logger.error("Invalid value of setting at path: {}, keeping its last value", path, e);
+            }
+        }
+    }
+
+    /**
+     * Loads the configuration and starts reload strategies, unless already done. Callers racing with a lazy or
+     * background initialization wait only for the configuration to load, instead of loading it again, while
+     * the initializing caller goes on to start the reload strategies.
+     */
+    private T initialize() {
+        T config;
+        synchronized (initializationLock) {
+            T currentConfig = configurationCache.get();
+            if (currentConfig != null) return currentConfig;
+
+            config = loadConfiguration();
+            configurationCache.set(config);
+        }
+
+        startReloadStrategies();
+        return config;
     }
 
     public static <T> ConfigurationProviderBuilder<T> builder(Class<? extends T> configurationClass) {
@@ -74,53 +217,143 @@ public class RootConfigurationProvider<T> implements ConfigurationProvider<T> {
 
     @Override
     public void close() throws Exception {
-        reloadStrategies.forEach(reloadStrategy -> {
-            try {
-                reloadStrategy.stop();
-            } catch (Throwable t) {
-                logger.warn("Unknown error while stopping reload strategy of type: {}", reloadStrategy.getClass(), t);
-            }
-        });
+        synchronized (reloadStrategiesLock) {
+            closed = true;
+        }
+        backgroundInitialization.handle((ignored, t) -> null).join();
+        // A strategy stopped while it is still starting could be left running, so wait for the start to finish first
+        reloadStrategiesStart.handle((ignored, t) -> null).join();
+        stopReloadStrategies();
+
+        try {
+            configurationSource.close();
+        } catch (Throwable t) {
+            logger.warn("Unknown error while closing configuration source of type: {}", configurationSource.getClass(), t);
+        }
+
         configurationExtensions.closeExtentions();
     }
 
+    /**
+     * Reloads the configuration, coalescing concurrent calls: when a reload is already running, the call returns
+     * immediately and the running reload is repeated once more after it completes.
+     */
     private void reload() {
+        if (reloadRequests.getAndIncrement() > 0) {
+            logger.trace("Configuration reload already in progress, coalescing reload request");
+            return;
+        }
+
+        int handledRequests = 1;
+        try {
+            do {
+                reloadConfiguration();
+                handledRequests = reloadRequests.addAndGet(-handledRequests);
+            } while (handledRequests > 0);
+        } catch (Throwable t) {
+            reloadRequests.set(0);
+            throw t;
+        }
+    }
+
+    private void reloadConfiguration() {
         configurationSource.reload();
+        if (configurationSource.getConfig() == loadedSourceConfig.get()) {
+            logger.trace("Skipping configuration reload, configuration source didn't change");
+            return;
+        }
+
         T oldConfig = configurationCache.get();
+        Config oldLoadedConfig = loadedConfig.get();
         T newConfig = loadConfiguration();
         configurationCache.set(newConfig);
 
+        settingUpdaters.notifyListenersOnConfigChange(oldLoadedConfig, loadedConfig.get());
         if (Objects.equals(oldConfig, newConfig)) {
             logger.debug("Skipping notifying listeners about config reload, configurations are identical");
-            return;
+        } else {
+            changeListenersNotifier.notifyListenersOnConfigChangeIfNeeded(oldConfig, newConfig);
         }
 
-        changeListenersNotifier.notifyListenersOnConfigChangeIfNeeded(oldConfig, newConfig);
+        pathChangeListeners.notifyListenersOnConfigChange(oldLoadedConfig, loadedConfig.get());
     }
 
     private T loadConfiguration() {
-        Config config = configurationSource.getConfig().resolve();
+        Config sourceConfig = configurationSource.getConfig();
+        Config config = sourceConfig.resolve();
         if (!configRootPath.equals(EMPTY_STRING)) {
             config = config.getConfig(configRootPath);
         }
 
         configurationExtensions.beforeTypeConversion(config, configurationClass);
-        Map<String, Object> configMap = config.root().unwrapped();
-        T configurationBean = mapper.convertValue(configMap, configurationClass);
+        ReusableInstances mappedInstances = new ReusableInstances(reusableInstances);
+        T configurationBean = beanMapper.map(config, mappedInstances);
         configurationExtensions.afterConfigBeanAssembly(configurationBean);
+        // Only instances of an accepted bean are reused, a bean rejected by an extension is never served
+        reusableInstances = mappedInstances.instances();
+        loadedSourceConfig.set(sourceConfig);
+        loadedConfig.set(config);
 
         return configurationBean;
     }
 
-    private ObjectMapper createObjectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-        mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
-        return mapper;
+    /**
+     * Starts all reload strategies in parallel, as starting a strategy may block until its watch is initialized.
+     * Unless the strategies are started in background, waits until all of them started or the start timeout elapsed.
+     * Strategies aren't started once the provider is closed.
+     */
+    private void startReloadStrategies() {
+        if (reloadStrategies.isEmpty()) return;
+
+        synchronized (reloadStrategiesLock) {
+            if (closed) return;
+
+            CompletableFuture<?>[] strategyStarts = reloadStrategies.stream()
+                    .map(reloadStrategy -> CompletableFuture.runAsync(() -> reloadStrategy.start(this::reload),
+                            StartupExecutor.INSTANCE))
+                    .toArray(CompletableFuture[]::new);
+            reloadStrategiesStart = CompletableFuture.allOf(strategyStarts);
+        }
+
+        if (startReloadStrategiesInBackground) {
+            reloadStrategiesStart.whenComplete((ignored, t) -> {
+                if (t != null) logger.error("Failed to start reload strategies", t);
+            });
+            return;
+        }
+
+        awaitReloadStrategiesStart();
     }
 
-    private void startReloadStrategies() {
-        reloadStrategies.forEach(reloadStrategy -> reloadStrategy.start(this::reload));
+    private void awaitReloadStrategiesStart() {
+        try {
+            if (reloadStrategiesStartTimeout == null) {
+                reloadStrategiesStart.get();
+            } else {
+                reloadStrategiesStart.get(reloadStrategiesStartTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException e) {
+            logger.warn("Reload strategies didn't start within: {}ms, continuing while they start in background",
+                    reloadStrategiesStartTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while waiting for reload strategies to start, continuing while they start in background");
+        } catch (ExecutionException e) {
+            // All starts completed by now, don't leave the strategies that did start running without a provider
+            stopReloadStrategies();
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException("Failed to start reload strategies", e.getCause());
+        }
+    }
+
+    private void stopReloadStrategies() {
+        reloadStrategies.forEach(reloadStrategy -> {
+            try {
+                reloadStrategy.stop();
+            } catch (Throwable t) {
+                logger.warn("Unknown error while stopping reload strategy of type: {}", reloadStrategy.getClass(), t);
+            }
+        });
     }
 
 }
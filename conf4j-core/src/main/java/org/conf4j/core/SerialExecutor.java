@@ -0,0 +1,52 @@
+package org.conf4j.core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs tasks on the given executor one at a time, in submission order.
+ */
+class SerialExecutor implements Executor {
+
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    SerialExecutor(Executor executor) {
+        this.executor = requireNonNull(executor);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(requireNonNull(task));
+        scheduleIfIdle();
+    }
+
+    private void scheduleIfIdle() {
+        if (!tasks.isEmpty() && running.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::runTasks);
+            } catch (RuntimeException e) {
+                running.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void runTasks() {
+        try {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        } finally {
+            running.set(false);
+            scheduleIfIdle();
+        }
+    }
+
+}
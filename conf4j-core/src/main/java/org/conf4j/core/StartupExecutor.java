@@ -0,0 +1,21 @@
+package org.conf4j.core;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Daemon threads shared by all providers in the JVM for startup work that may block, like waiting for
+ * a watch to initialize. Threads are created on demand and discarded when idle.
+ */
+final class StartupExecutor {
+
+    static final ExecutorService INSTANCE = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("conf4j-startup-%d")
+            .setDaemon(true)
+            .build());
+
+    private StartupExecutor() {}
+
+}
@@ -1,5 +1,6 @@
 package org.conf4j.core.ext;
 
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Streams;
 import com.typesafe.config.Config;
 import org.slf4j.Logger;
@@ -8,17 +9,29 @@ import org.slf4j.LoggerFactory;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 public class ConfigurationExtensions {
 
     private static final Logger logger = LoggerFactory.getLogger(ConfigurationExtensions.class);
 
+    /**
+     * Class names of extensions discovered per class loader, so the classpath is scanned only once per class loader.
+     * Names rather than classes are kept, so the cache doesn't keep class loaders from being collected.
+     */
+    private static final ConcurrentMap<ClassLoader, List<String>> DISCOVERED_EXTENSIONS = new MapMaker().weakKeys().makeMap();
+
     private final List<ConfigurationExtension> extensions;
 
     public ConfigurationExtensions() {
-        this.extensions = loadExtentions();
+        this.extensions = sortByPriority(loadExtentions());
+    }
+
+    public ConfigurationExtensions(List<? extends ConfigurationExtension> extensions) {
+        this.extensions = sortByPriority(extensions);
     }
 
     public void beforeTypeConversion(Config config, Class<?> configurationType) {
@@ -40,8 +53,42 @@ public class ConfigurationExtensions {
     }
 
     private List<ConfigurationExtension> loadExtentions() {
-        ServiceLoader<ConfigurationExtension> extensionServiceLoader = ServiceLoader.load(ConfigurationExtension.class);
-        List<ConfigurationExtension> sortedExtentions = Streams.stream(extensionServiceLoader.iterator())
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = ClassLoader.getSystemClassLoader();
+        }
+
+        List<String> extensionClassNames = DISCOVERED_EXTENSIONS.get(classLoader);
+        if (extensionClassNames != null) {
+            ClassLoader extensionsClassLoader = classLoader;
+            return extensionClassNames.stream()
+                    .map(extensionClassName -> createExtension(extensionClassName, extensionsClassLoader))
+                    .collect(Collectors.toList());
+        }
+
+        ServiceLoader<ConfigurationExtension> extensionServiceLoader = ServiceLoader.load(ConfigurationExtension.class, classLoader);
+        List<ConfigurationExtension> extensions = Streams.stream(extensionServiceLoader.iterator())
+                .collect(Collectors.toList());
+        DISCOVERED_EXTENSIONS.putIfAbsent(classLoader, extensions.stream()
+                .map(extension -> extension.getClass().getName())
+                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList)));
+
+        return extensions;
+    }
+
+    private ConfigurationExtension createExtension(String extensionClassName, ClassLoader classLoader) {
+        try {
+            return Class.forName(extensionClassName, true, classLoader)
+                    .asSubclass(ConfigurationExtension.class)
+                    .getConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new ServiceConfigurationError("Extension: " + extensionClassName + " could not be instantiated", e);
+        }
+    }
+
+    private static List<ConfigurationExtension> sortByPriority(List<? extends ConfigurationExtension> extensions) {
+        List<ConfigurationExtension> sortedExtentions = extensions.stream()
                 .sorted(Comparator.comparing(ConfigurationExtension::getPriority))
                 .peek(extension -> logger.debug("Adding extension: {}", extension.getExtensionName()))
                 .collect(Collectors.toList());
@@ -5,6 +5,7 @@ import com.typesafe.config.ConfigFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URL;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Objects.requireNonNull;
@@ -12,9 +13,11 @@ import static java.util.Objects.requireNonNull;
 public class ClasspathConfigurationSource implements ConfigurationSource {
 
     private static final Logger logger = LoggerFactory.getLogger(ClasspathConfigurationSource.class);
+    private static final String JAR_PROTOCOL = "jar";
 
     private final String resourcePath;
     private final boolean ignoreMissingResource;
+    private volatile boolean immutableResourceLoaded;
     private final AtomicReference<Config> configCache = new AtomicReference<>();
 
     private ClasspathConfigurationSource(String resourcePath, boolean ignoreMissingResource) {
@@ -30,14 +33,23 @@ public class ClasspathConfigurationSource implements ConfigurationSource {
 
     @Override
     public void reload() {
-        configCache.set(this.buildConfigIfAbsent(null));
+        if (immutableResourceLoaded) {
+            logger.trace("Configuration resource at path: {} is packaged in a jar, skipping parsing", resourcePath);
+            return;
+        }
+
+        Config newConfig = buildConfigIfAbsent(null);
+        configCache.updateAndGet(currentConfig -> newConfig.equals(currentConfig) ? currentConfig : newConfig);
     }
 
     private Config buildConfigIfAbsent(Config currentConfig) {
         if (currentConfig != null) return currentConfig;
 
-        if (getClass().getClassLoader().getResource(resourcePath) != null) {
-            return ConfigFactory.parseResources(resourcePath);
+        URL resource = getClass().getClassLoader().getResource(resourcePath);
+        if (resource != null) {
+            Config config = ConfigFactory.parseResources(resourcePath);
+            immutableResourceLoaded = JAR_PROTOCOL.equals(resource.getProtocol());
+            return config;
         }
 
         logger.debug("Missing configuration resource at path: {}, ignore flag set to: {}", resourcePath, ignoreMissingResource);
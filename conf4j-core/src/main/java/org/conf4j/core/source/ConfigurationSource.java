@@ -2,9 +2,19 @@ package org.conf4j.core.source;
 
 import com.typesafe.config.Config;
 
-public interface ConfigurationSource {
+public interface ConfigurationSource extends AutoCloseable {
 
+    /**
+     * Returns the currently loaded config.
+     * Note: Implementations should keep returning the same instance as long as the loaded config didn't change,
+     * so consumers can detect a change with an identity check instead of rebuilding everything on each reload.
+     *
+     * @return the currently loaded config
+     */
     Config getConfig();
     void reload();
 
+    @Override
+    default void close() throws Exception {}
+
 }
@@ -2,26 +2,58 @@ package org.conf4j.core.source;
 
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigParseOptions;
+import com.typesafe.config.ConfigSyntax;
+import org.conf4j.core.source.reload.FilesystemWatchReloadStrategy;
+import org.conf4j.core.source.reload.ReloadStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
 
 import static java.util.Objects.requireNonNull;
 
-public class FilesystemConfigurationSource implements ConfigurationSource {
+public class FilesystemConfigurationSource implements WatchableConfigurationSource {
 
     private static final Logger logger = LoggerFactory.getLogger(FilesystemConfigurationSource.class);
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final Pattern INCLUDE_PATTERN = Pattern.compile("\\binclude\\b");
 
     private final String filePath;
     private final boolean ignoreMissingFile;
+    private final boolean compareContentDigest;
     private final AtomicReference<Config> configCache = new AtomicReference<>();
+    private final AtomicReference<FileFingerprint> loadedFileFingerprint = new AtomicReference<>();
+    private final FilesystemWatchReloadStrategy reloadStrategy;
 
-    private FilesystemConfigurationSource(String filePath, boolean ignoreMissingFile) {
+    private FilesystemConfigurationSource(String filePath, boolean ignoreMissingFile, boolean compareContentDigest,
+                                          boolean reloadOnChange) {
         this.filePath = requireNonNull(filePath);
         this.ignoreMissingFile = ignoreMissingFile;
+        this.compareContentDigest = compareContentDigest;
         configCache.set(buildConfigIfAbsent(null));
+
+        if (reloadOnChange) {
+            this.reloadStrategy = FilesystemWatchReloadStrategy.builder()
+                    .withFilePath(filePath)
+                    .build();
+        } else {
+            this.reloadStrategy = null;
+        }
     }
 
     @Override
@@ -29,28 +61,161 @@ public class FilesystemConfigurationSource implements ConfigurationSource {
         return configCache.updateAndGet(this::buildConfigIfAbsent);
     }
 
+    @Override
+    public boolean shouldWatchForChange() {
+        return reloadStrategy != null;
+    }
+
+    @Override
+    public ReloadStrategy getReloadStrategy() {
+        return reloadStrategy;
+    }
+
     @Override
     public void reload() {
-        configCache.set(this.buildConfigIfAbsent(null));
+        File configFile = new File(filePath);
+        byte[] content = compareContentDigest ? readContentIfExists(configFile) : null;
+        FileFingerprint fileFingerprint = FileFingerprint.of(configFile, content);
+        if (fileFingerprint != null && fileFingerprint.equals(loadedFileFingerprint.get())) {
+            logger.trace("Configuration file at path: {} didn't change, skipping parsing", filePath);
+            return;
+        }
+
+        Config newConfig = buildConfig(configFile, content, fileFingerprint);
+        configCache.updateAndGet(currentConfig -> newConfig.equals(currentConfig) ? currentConfig : newConfig);
     }
 
     private Config buildConfigIfAbsent(Config currentConfig) {
         if (currentConfig != null) return currentConfig;
 
         File configFile = new File(filePath);
-        if (configFile.exists()) {
-            return ConfigFactory.parseFile(configFile);
+        byte[] content = compareContentDigest ? readContentIfExists(configFile) : null;
+        return buildConfig(configFile, content, FileFingerprint.of(configFile, content));
+    }
+
+    /**
+     * Parses the file content read for the fingerprint, or reads it once after the fingerprint was taken, so a change
+     * made in between is parsed now and seen as a change again on the next reload.
+     */
+    private Config buildConfig(File configFile, byte[] content, FileFingerprint fileFingerprint) {
+        if (content == null) content = readContentIfExists(configFile);
+        if (content != null) {
+            String text = new String(content, StandardCharsets.UTF_8);
+            if (INCLUDE_PATTERN.matcher(text).find()) {
+                // Included files are resolved relative to the file and aren't fingerprinted, a null fingerprint is
+                // never trusted so the file is always parsed. Any occurrence of the keyword counts, also in values or
+                // comments, which only costs skipping the unchanged file check.
+                logger.debug("Configuration file at path: {} may include other files, parsing it on every reload", filePath);
+                loadedFileFingerprint.set(null);
+                return ConfigFactory.parseFile(configFile);
+            }
+
+            loadedFileFingerprint.set(fileFingerprint);
+            return ConfigFactory.parseReader(new StringReader(text), ConfigParseOptions.defaults()
+                    .setSyntax(syntaxOf(configFile))
+                    .setOriginDescription(configFile.getPath()));
         }
 
         logger.debug("Missing configuration file at path: {}, ignore flag set to: {}", filePath, ignoreMissingFile);
 
         if (ignoreMissingFile) {
+            loadedFileFingerprint.set(fileFingerprint);
             return ConfigFactory.empty();
         }
 
         throw new IllegalStateException("Missing required configuration file at path: " + filePath);
     }
 
+    private static byte[] readContentIfExists(File configFile) {
+        if (!configFile.exists()) return null;
+
+        try {
+            return Files.readAllBytes(configFile.toPath());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed reading configuration file: " + configFile, e);
+        }
+    }
+
+    /**
+     * Chooses the syntax by the file extension, the same way {@link ConfigFactory#parseFile(File)} does.
+     */
+    private static ConfigSyntax syntaxOf(File configFile) {
+        String fileName = configFile.getName();
+        if (fileName.endsWith(".json")) return ConfigSyntax.JSON;
+        if (fileName.endsWith(".properties")) return ConfigSyntax.PROPERTIES;
+        return ConfigSyntax.CONF;
+    }
+
+    /**
+     * Identifies a version of the configuration file by its last modification time and size,
+     * or by a digest of its content, which also catches changes that keep both.
+     */
+    private static class FileFingerprint {
+
+        // Covers the modification time resolution of common filesystems, and of File.lastModified() on JDK 8
+        private static final long MODIFICATION_TIME_RESOLUTION_MILLIS = 2000;
+        private static final FileFingerprint MISSING_FILE = new FileFingerprint(null, -1, null);
+
+        private final FileTime lastModifiedTime;
+        private final long size;
+        private final byte[] contentDigest;
+
+        private FileFingerprint(FileTime lastModifiedTime, long size, byte[] contentDigest) {
+            this.lastModifiedTime = lastModifiedTime;
+            this.size = size;
+            this.contentDigest = contentDigest;
+        }
+
+        /**
+         * Returns the fingerprint of the given content, or of the file's attributes when the content wasn't read.
+         * Returns null when the file was modified too recently for its modification time to tell apart a following
+         * modification of the same size, such a fingerprint can't be trusted.
+         */
+        private static FileFingerprint of(File file, byte[] content) {
+            if (content != null) return new FileFingerprint(null, content.length, digest(content));
+            if (!file.exists()) return MISSING_FILE;
+
+            try {
+                long fingerprintTime = System.currentTimeMillis();
+                BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+                FileTime lastModifiedTime = attributes.lastModifiedTime();
+                if (fingerprintTime - lastModifiedTime.toMillis() < MODIFICATION_TIME_RESOLUTION_MILLIS) return null;
+
+                return new FileFingerprint(lastModifiedTime, attributes.size(), null);
+            } catch (NoSuchFileException e) {
+                return MISSING_FILE;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed reading attributes of configuration file: " + file, e);
+            }
+        }
+
+        private static byte[] digest(byte[] content) {
+            try {
+                return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Missing message digest algorithm: " + DIGEST_ALGORITHM, e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            FileFingerprint that = (FileFingerprint) o;
+            return size == that.size &&
+                    Objects.equals(lastModifiedTime, that.lastModifiedTime) &&
+                    Arrays.equals(contentDigest, that.contentDigest);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hash(lastModifiedTime, size) + Arrays.hashCode(contentDigest);
+        }
+
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -59,6 +224,8 @@ public class FilesystemConfigurationSource implements ConfigurationSource {
 
         private String filePath;
         private boolean ignoreMissingFile;
+        private boolean compareContentDigest;
+        private boolean reloadOnChange;
 
         private Builder() {}
 
@@ -72,8 +239,24 @@ public class FilesystemConfigurationSource implements ConfigurationSource {
             return this;
         }
 
+        /**
+         * Compare a digest of the file content, instead of its last modification time and size,
+         * to decide whether the file changed since it was last parsed.
+         *
+         * @return this builder
+         */
+        public Builder compareContentDigest() {
+            this.compareContentDigest = true;
+            return this;
+        }
+
+        public Builder reloadOnChange() {
+            this.reloadOnChange = true;
+            return this;
+        }
+
         public FilesystemConfigurationSource build() {
-            return new FilesystemConfigurationSource(filePath, ignoreMissingFile);
+            return new FilesystemConfigurationSource(filePath, ignoreMissingFile, compareContentDigest, reloadOnChange);
         }
 
     }
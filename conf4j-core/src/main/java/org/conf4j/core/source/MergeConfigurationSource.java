@@ -1,30 +1,154 @@
 package org.conf4j.core.source;
 
+import com.google.common.base.Throwables;
 import com.typesafe.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+/**
+ * Merges a source with any number of fallback sources, in order of priority, into a single config.
+ * Nested merge sources are flattened into this one, and the merged config is cached and merged again only when
+ * one of the sources returns a different config instance.
+ * When a reload executor is provided, all sources are reloaded concurrently on it before they are merged.
+ */
 public class MergeConfigurationSource implements ConfigurationSource {
 
-    private final ConfigurationSource source;
-    private final ConfigurationSource fallbackSource;
+    private static final Logger logger = LoggerFactory.getLogger(MergeConfigurationSource.class);
+
+    private final List<ConfigurationSource> sources;
+    private final Executor reloadExecutor;
+    private final AtomicReference<MergedConfig> mergedConfigCache = new AtomicReference<>();
+
+    private MergeConfigurationSource(ConfigurationSource source, List<ConfigurationSource> fallbackSources,
+                                     Executor reloadExecutor) {
+        requireNonNull(source, "Source should not be null");
+        checkArgument(!fallbackSources.isEmpty(), "At least one fallback source should be provided");
 
-    private MergeConfigurationSource(ConfigurationSource source, ConfigurationSource fallbackSource) {
-        this.source = requireNonNull(source, "Source should not be null");
-        this.fallbackSource = requireNonNull(fallbackSource, "Fallback source should not be null");
+        List<ConfigurationSource> mergedSources = new ArrayList<>();
+        addFlattened(mergedSources, source);
+        fallbackSources.forEach(fallbackSource ->
+                addFlattened(mergedSources, requireNonNull(fallbackSource, "Fallback source should not be null")));
+        this.sources = Collections.unmodifiableList(mergedSources);
+        this.reloadExecutor = reloadExecutor;
     }
 
     @Override
     public Config getConfig() {
-        Config fallbackConfig = fallbackSource.getConfig();
-        return source.getConfig()
-                .withFallback(fallbackConfig);
+        MergedConfig mergedConfig = mergedConfigCache.get();
+        if (mergedConfig != null && mergedConfig.isMergeOf(sources)) {
+            return mergedConfig.config;
+        }
+
+        Config[] sourceConfigs = new Config[sources.size()];
+        for (int i = sources.size() - 1; i >= 0; i--) {
+            sourceConfigs[i] = sources.get(i).getConfig();
+        }
+
+        mergedConfig = new MergedConfig(sourceConfigs, merge(sourceConfigs));
+        mergedConfigCache.set(mergedConfig);
+        return mergedConfig.config;
     }
 
     @Override
     public void reload() {
-        fallbackSource.reload();
-        source.reload();
+        if (reloadExecutor == null) {
+            for (int i = sources.size() - 1; i >= 0; i--) {
+                sources.get(i).reload();
+            }
+
+            return;
+        }
+
+        reloadConcurrently();
+    }
+
+    @Override
+    public void close() {
+        sources.forEach(this::closeSafely);
+    }
+
+    private void reloadConcurrently() {
+        List<CompletableFuture<Void>> reloads = new ArrayList<>(sources.size());
+        sources.forEach(source -> reloads.add(CompletableFuture.runAsync(source::reload, reloadExecutor)));
+
+        Throwable reloadFailure = null;
+        for (int i = 0; i < reloads.size(); i++) {
+            try {
+                reloads.get(i).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                logger.warn("Failed to reload configuration source of type: {}", sources.get(i).getClass(), cause);
+                if (reloadFailure == null) {
+                    reloadFailure = cause;
+                } else {
+                    reloadFailure.addSuppressed(cause);
+                }
+            }
+        }
+
+        if (reloadFailure != null) {
+            Throwables.throwIfUnchecked(reloadFailure);
+            throw new IllegalStateException("Failed to reload configuration sources", reloadFailure);
+        }
+    }
+
+    private Config merge(Config[] sourceConfigs) {
+        Config config = sourceConfigs[0];
+        for (int i = 1; i < sourceConfigs.length; i++) {
+            config = config.withFallback(sourceConfigs[i]);
+        }
+
+        return config;
+    }
+
+    private void closeSafely(ConfigurationSource configurationSource) {
+        try {
+            configurationSource.close();
+        } catch (Throwable t) {
+            logger.warn("Unknown error while closing configuration source of type: {}", configurationSource.getClass(), t);
+        }
+    }
+
+    private static void addFlattened(List<ConfigurationSource> mergedSources, ConfigurationSource source) {
+        if (source instanceof MergeConfigurationSource) {
+            mergedSources.addAll(((MergeConfigurationSource) source).sources);
+        } else {
+            mergedSources.add(source);
+        }
+    }
+
+    private static class MergedConfig {
+
+        private final Config[] sourceConfigs;
+        private final Config config;
+
+        private MergedConfig(Config[] sourceConfigs, Config config) {
+            this.sourceConfigs = sourceConfigs;
+            this.config = config;
+        }
+
+        private boolean isMergeOf(List<ConfigurationSource> sources) {
+            for (int i = sources.size() - 1; i >= 0; i--) {
+                if (sources.get(i).getConfig() != sourceConfigs[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
     }
 
     public static Builder builder() {
@@ -34,7 +158,8 @@ public class MergeConfigurationSource implements ConfigurationSource {
     public static class Builder {
 
         private ConfigurationSource source;
-        private ConfigurationSource fallbackSource;
+        private final List<ConfigurationSource> fallbackSources = new ArrayList<>();
+        private Executor reloadExecutor;
 
         private Builder() {}
 
@@ -43,13 +168,42 @@ public class MergeConfigurationSource implements ConfigurationSource {
             return this;
         }
 
+        /**
+         * Adds a fallback source, with lower priority than the source and the fallbacks added before it.
+         *
+         * @param fallbackSource fallback source to add
+         * @return this builder
+         */
         public Builder withFallback(ConfigurationSource fallbackSource) {
-            this.fallbackSource = fallbackSource;
+            this.fallbackSources.add(fallbackSource);
+            return this;
+        }
+
+        public Builder withFallbacks(ConfigurationSource... fallbackSources) {
+            this.fallbackSources.addAll(Arrays.asList(fallbackSources));
+            return this;
+        }
+
+        public Builder withFallbacks(List<ConfigurationSource> fallbackSources) {
+            this.fallbackSources.addAll(fallbackSources);
+            return this;
+        }
+
+        /**
+         * Reload all merged sources concurrently on the given executor, so slow remote sources don't add up.
+         * A failure of one source doesn't prevent the other sources from being reloaded, the failures are rethrown
+         * after all reloads finished.
+         *
+         * @param reloadExecutor executor to reload the sources on
+         * @return this builder
+         */
+        public Builder withReloadExecutor(Executor reloadExecutor) {
+            this.reloadExecutor = requireNonNull(reloadExecutor, "Reload executor should not be null");
             return this;
         }
 
         public MergeConfigurationSource build() {
-            return new MergeConfigurationSource(source, fallbackSource);
+            return new MergeConfigurationSource(source, fallbackSources, reloadExecutor);
         }
 
     }
@@ -0,0 +1,307 @@
+package org.conf4j.core.source.reload;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Watches directories for changes of the files registered in them, using a single {@link WatchService}
+ * and a single daemon thread shared by the whole JVM. Callbacks are debounced per registration and
+ * handed off to the registration's executor once no further events arrived for its debounce delay,
+ * so a slow callback doesn't delay detecting changes of other files. When the watcher thread stops, the watched
+ * files are moved to a new watcher and their callbacks are triggered once, as changes made meanwhile were missed.
+ */
+class DirectoryWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(DirectoryWatcher.class);
+    private static final String THREAD_NAME = "conf4j-directory-watcher";
+
+    private static DirectoryWatcher instance;
+
+    private final WatchService watchService;
+    private final Map<Path, WatchKey> watchKeys = new HashMap<>();
+    private final Map<Path, Set<Registration>> registrations = new ConcurrentHashMap<>();
+    private final Set<Registration> pendingRegistrations = new HashSet<>();
+    private boolean stopped;
+
+    private DirectoryWatcher(WatchService watchService) {
+        this.watchService = watchService;
+
+        Thread watcherThread = new Thread(this::watchLoop, THREAD_NAME);
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    static synchronized DirectoryWatcher getInstance() {
+        if (instance == null) {
+            try {
+                instance = new DirectoryWatcher(FileSystems.getDefault().newWatchService());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed creating watch service", e);
+            }
+        }
+
+        return instance;
+    }
+
+    Registration watch(Path file, Duration debounceDelay, Executor executor, Runnable callback) {
+        Registration registration = new Registration(file.toAbsolutePath().normalize(), debounceDelay, executor, callback);
+        synchronized (registration) {
+            add(registration);
+        }
+        return registration;
+    }
+
+    /**
+     * Adds the registration to this watcher, or to the current one if this watcher was stopped meanwhile.
+     * Callers hold the registration's lock, so it can't be cancelled while moving between watchers.
+     */
+    private void add(Registration registration) {
+        synchronized (this) {
+            if (!stopped) {
+                Path directory = registration.file.getParent();
+                if (!watchKeys.containsKey(directory)) {
+                    try {
+                        watchKeys.put(directory, directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed watching directory: " + directory, e);
+                    }
+                }
+
+                registration.watcher = this;
+                registrations.computeIfAbsent(directory, dir -> new CopyOnWriteArraySet<>()).add(registration);
+                logger.debug("Watching file: {} for changes", registration.file);
+                return;
+            }
+        }
+
+        getInstance().add(registration);
+    }
+
+    private synchronized void cancel(Registration registration) {
+        Path directory = registration.file.getParent();
+        Set<Registration> directoryRegistrations = registrations.get(directory);
+        if (directoryRegistrations == null) return;
+
+        directoryRegistrations.remove(registration);
+        if (directoryRegistrations.isEmpty()) {
+            registrations.remove(directory);
+            WatchKey watchKey = watchKeys.remove(directory);
+            if (watchKey != null) watchKey.cancel();
+        }
+
+        logger.debug("Stopped watching file: {} for changes", registration.file);
+    }
+
+    private void watchLoop() {
+        while (true) {
+            try {
+                WatchKey watchKey = pollWatchKey();
+                if (watchKey != null) {
+                    handleEvents(watchKey);
+                }
+
+                notifyDueRegistrations();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                logger.warn("Directory watcher stopped, moving watched files to a new watcher", e);
+                stop();
+                return;
+            } catch (Throwable t) {
+                logger.error("Unknown error thrown while watching directories", t);
+            }
+        }
+    }
+
+    /**
+     * Stops this watcher and moves its registrations to a new one, created by the next {@link #getInstance()}.
+     * Called by the watcher thread when it stops, and by tests to simulate that without touching the thread.
+     */
+    void stop() {
+        synchronized (DirectoryWatcher.class) {
+            if (instance == this) instance = null;
+        }
+
+        Set<Registration> liveRegistrations = new HashSet<>();
+        synchronized (this) {
+            if (stopped) return;
+
+            stopped = true;
+            registrations.values().forEach(liveRegistrations::addAll);
+            registrations.clear();
+            watchKeys.clear();
+        }
+
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warn("Failed closing watch service", e);
+        }
+
+        for (Registration registration : liveRegistrations) {
+            try {
+                registration.moveTo(getInstance());
+            } catch (Throwable t) {
+                logger.error("Failed moving file: {} to a new directory watcher, its changes will not be detected",
+                        registration.file, t);
+            }
+        }
+    }
+
+    private WatchKey pollWatchKey() throws InterruptedException {
+        if (pendingRegistrations.isEmpty()) {
+            return watchService.take();
+        }
+
+        long nextDeadline = Long.MAX_VALUE;
+        for (Registration registration : pendingRegistrations) {
+            nextDeadline = Math.min(nextDeadline, registration.deadline);
+        }
+
+        return watchService.poll(Math.max(0, nextDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    private void handleEvents(WatchKey watchKey) {
+        Path directory = (Path) watchKey.watchable();
+        List<WatchEvent<?>> events = watchKey.pollEvents();
+        if (!watchKey.reset()) {
+            logger.warn("Directory: {} is no longer accessible, changes in it will not be detected", directory);
+        }
+
+        Set<Registration> directoryRegistrations = registrations.get(directory);
+        if (directoryRegistrations == null) return;
+
+        long now = System.nanoTime();
+        for (Registration registration : directoryRegistrations) {
+            if (registration.isTriggeredBy(events)) {
+                registration.deadline = now + registration.debounceDelayNanos;
+                pendingRegistrations.add(registration);
+            }
+        }
+    }
+
+    private void notifyDueRegistrations() {
+        long now = System.nanoTime();
+        Iterator<Registration> iterator = pendingRegistrations.iterator();
+        while (iterator.hasNext()) {
+            Registration registration = iterator.next();
+            if (registration.deadline - now > 0) continue;
+
+            iterator.remove();
+            if (!registration.cancelled) {
+                logger.trace("File: {} changed, triggering callback", registration.file);
+                registration.triggerCallback();
+            }
+        }
+    }
+
+    static class Registration {
+
+        private final Path file;
+        private final Path fileName;
+        private final long debounceDelayNanos;
+        private final Executor executor;
+        private final Runnable callback;
+        private final AtomicInteger callbackRequests = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile DirectoryWatcher watcher;
+        private long deadline;
+
+        private Registration(Path file, Duration debounceDelay, Executor executor, Runnable callback) {
+            this.file = file;
+            this.fileName = file.getFileName();
+            this.debounceDelayNanos = debounceDelay.toNanos();
+            this.executor = executor;
+            this.callback = callback;
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (watcher != null) watcher.cancel(this);
+        }
+
+        /**
+         * Watches the file with the given watcher, and triggers the callback, as a change could be missed meanwhile.
+         */
+        private void moveTo(DirectoryWatcher newWatcher) {
+            synchronized (this) {
+                if (cancelled) return;
+                newWatcher.add(this);
+            }
+
+            triggerCallback();
+        }
+
+        /**
+         * Runs the callback on the executor, one call at a time. A change detected while the callback runs is
+         * coalesced into a single further call once it completes.
+         */
+        private void triggerCallback() {
+            if (callbackRequests.getAndIncrement() > 0) return;
+
+            try {
+                executor.execute(this::runCallback);
+            } catch (Throwable t) {
+                callbackRequests.set(0);
+                logger.error("Failed submitting callback about change of file: {}", file, t);
+            }
+        }
+
+        private void runCallback() {
+            int handledRequests;
+            do {
+                handledRequests = callbackRequests.get();
+                if (cancelled) {
+                    callbackRequests.set(0);
+                    return;
+                }
+
+                try {
+                    callback.run();
+                } catch (Throwable t) {
+                    logger.error("Unknown error thrown while notifying about change of file: {}", file, t);
+                }
+            } while (callbackRequests.addAndGet(-handledRequests) > 0);
+        }
+
+        /**
+         * Events on the file itself cover in-place writes and atomic renames over it. When the file is a
+         * symbolic link, as with Kubernetes ConfigMap volumes, the link target is swapped through other
+         * entries of the directory, so any event in the directory counts as a possible change.
+         */
+        private boolean isTriggeredBy(List<WatchEvent<?>> events) {
+            for (WatchEvent<?> event : events) {
+                if (event.kind() == OVERFLOW || fileName.equals(event.context())) return true;
+            }
+
+            return !events.isEmpty() && Files.isSymbolicLink(file);
+        }
+
+    }
+
+}
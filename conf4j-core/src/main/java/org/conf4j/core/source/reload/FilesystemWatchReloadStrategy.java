@@ -0,0 +1,102 @@
+package org.conf4j.core.source.reload;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reloads configuration when a file changes, using the file system's watch service instead of polling.
+ * All strategies in the JVM share a single watcher thread, and bursts of events on the file are debounced
+ * into a single reload. Reloads run on a pool of daemon threads shared by all strategies, unless an executor
+ * is supplied, so a slow reload doesn't delay detecting changes of other files.
+ */
+public class FilesystemWatchReloadStrategy implements ReloadStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(FilesystemWatchReloadStrategy.class);
+
+    private final Path filePath;
+    private final Duration debounceDelay;
+    private final Executor executor;
+    private DirectoryWatcher.Registration registration;
+
+    private FilesystemWatchReloadStrategy(Path filePath, Duration debounceDelay, Executor executor) {
+        this.filePath = requireNonNull(filePath);
+        this.debounceDelay = requireNonNull(debounceDelay);
+        this.executor = requireNonNull(executor);
+    }
+
+    @Override
+    public void start(Runnable reloadCallback) {
+        logger.info("Starting filesystem watch reload strategy for file: {}", filePath);
+        registration = DirectoryWatcher.getInstance().watch(filePath, debounceDelay, executor, reloadCallback);
+        logger.info("Filesystem watch reload strategy started");
+    }
+
+    @Override
+    public void stop() {
+        logger.info("Stopping filesystem watch reload strategy");
+        if (registration != null) registration.cancel();
+        logger.info("Filesystem watch reload strategy stopped");
+    }
+
+    private static class SharedExecutor {
+
+        private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("conf4j-filesystem-reload-%d")
+                .setDaemon(true)
+                .build());
+
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private String filePath;
+        private Duration debounceDelay = Duration.ofMillis(100);
+        private Executor executor;
+
+        private Builder() {}
+
+        public Builder withFilePath(String filePath) {
+            this.filePath = filePath;
+            return this;
+        }
+
+        public Builder withDebounceDelay(Duration debounceDelay) {
+            this.debounceDelay = debounceDelay;
+            return this;
+        }
+
+        /**
+         * Runs reloads on the given executor instead of the executor shared by all filesystem watch reload strategies.
+         * The executor is not shut down when the strategy stops.
+         *
+         * @param executor executor to run reloads on
+         * @return this builder
+         */
+        public Builder withExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public FilesystemWatchReloadStrategy build() {
+            requireNonNull(filePath, "File path cannot be null");
+            Executor reloadExecutor = executor != null ? executor : SharedExecutor.INSTANCE;
+            return new FilesystemWatchReloadStrategy(Paths.get(filePath), debounceDelay, reloadExecutor);
+        }
+
+    }
+
+}
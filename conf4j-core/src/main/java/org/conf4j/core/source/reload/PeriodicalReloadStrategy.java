@@ -1,54 +1,122 @@
 package org.conf4j.core.source.reload;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
-import java.util.Timer;
-import java.util.TimerTask;
-
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+/**
+ * Triggers a reload periodically, waiting the given interval (plus an optional random jitter) between the end of
+ * one reload and the start of the next one. Unless a scheduler is supplied, all strategies in the JVM share a single
+ * scheduler thread that only times the reloads, which run on a pool of daemon threads shared by all strategies,
+ * so a slow or hanging reload only delays the reloads of its own strategy.
+ */
 public class PeriodicalReloadStrategy implements ReloadStrategy {
 
     private final Logger logger = LoggerFactory.getLogger(PeriodicalReloadStrategy.class);
 
     private final Duration interval;
-    private Timer reloadTimer;
-    private TimerTask reloadTask;
-
-    private PeriodicalReloadStrategy(Duration interval) {
+    private final Duration jitter;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    // Guards stopped and scheduledReload, so a reload finishing while stopping can't schedule the next one
+    private final Object lock = new Object();
+    private ScheduledFuture<?> scheduledReload;
+    private boolean stopped;
+
+    private PeriodicalReloadStrategy(Duration interval, Duration jitter, ScheduledExecutorService scheduler,
+                                     Executor executor) {
         this.interval = requireNonNull(interval);
+        this.jitter = requireNonNull(jitter);
+        this.scheduler = requireNonNull(scheduler);
+        this.executor = requireNonNull(executor);
+        checkArgument(!jitter.isNegative(), "Jitter cannot be negative: %s", jitter);
     }
 
     @Override
     public void start(Runnable reloadCallback) {
-        logger.info("Starting periodical reload strategy, reload interval set to: {}ms", interval.toMillis());
-        reloadTimer = new Timer(true);
-        reloadTask = new TimerTask() {
-            @Override
-            public void run() {
-                try {
-                    logger.trace("Triggering configuration reload");
-                    reloadCallback.run();
-                } catch (Throwable t) {
-                    logger.error("Unknown error thrown while reloading config", t);
-                }
-            }
-        };
-
-        reloadTimer.scheduleAtFixedRate(reloadTask, interval.toMillis(), interval.toMillis());
+        logger.info("Starting periodical reload strategy, reload interval set to: {}ms, jitter set to: {}ms",
+                interval.toMillis(), jitter.toMillis());
+        synchronized (lock) {
+            stopped = false;
+        }
+        scheduleReload(reloadCallback);
         logger.info("Periodical reload strategy started");
     }
 
     @Override
     public void stop() {
         logger.info("Stopping periodical reload strategy");
-        if (reloadTask != null) reloadTask.cancel();
-        if (reloadTimer != null) reloadTimer.cancel();
+        synchronized (lock) {
+            stopped = true;
+            if (scheduledReload != null) scheduledReload.cancel(false);
+        }
         logger.info("Periodical reload strategy stopped");
     }
 
+    private void scheduleReload(Runnable reloadCallback) {
+        long delayMillis = interval.toMillis();
+        if (!jitter.isZero()) {
+            delayMillis += ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1);
+        }
+
+        synchronized (lock) {
+            if (stopped) return;
+            scheduledReload = scheduler.schedule(() -> submitReload(reloadCallback), delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void submitReload(Runnable reloadCallback) {
+        try {
+            executor.execute(() -> reload(reloadCallback));
+        } catch (RejectedExecutionException e) {
+            logger.error("Reload executor rejected configuration reload, retrying after the next interval", e);
+            scheduleReload(reloadCallback);
+        }
+    }
+
+    private void reload(Runnable reloadCallback) {
+        try {
+            logger.trace("Triggering configuration reload");
+            reloadCallback.run();
+        } catch (Throwable t) {
+            logger.error("Unknown error thrown while reloading config", t);
+        } finally {
+            scheduleReload(reloadCallback);
+        }
+    }
+
+    private static class SharedScheduler {
+
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                        .setNameFormat("conf4j-periodical-reload-scheduler-%d")
+                        .setDaemon(true)
+                        .build());
+
+    }
+
+    private static class SharedExecutor {
+
+        private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("conf4j-periodical-reload-%d")
+                .setDaemon(true)
+                .build());
+
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -56,6 +124,9 @@ public class PeriodicalReloadStrategy implements ReloadStrategy {
     public static class Builder {
 
         private Duration interval;
+        private Duration jitter = Duration.ZERO;
+        private ScheduledExecutorService scheduler;
+        private Executor executor;
 
         private Builder() {}
 
@@ -64,8 +135,47 @@ public class PeriodicalReloadStrategy implements ReloadStrategy {
             return this;
         }
 
+        /**
+         * Adds a random delay of up to the given jitter to each interval, so that many providers
+         * created together don't all reload at the same moment.
+         *
+         * @param jitter maximal random delay added to each interval
+         * @return this builder
+         */
+        public Builder withJitter(Duration jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Schedules reloads on the given scheduler instead of the scheduler shared by all periodical reload strategies.
+         * Unless an executor is supplied too, reloads run on the given scheduler's threads.
+         * The scheduler is not shut down when the strategy stops.
+         *
+         * @param scheduler scheduler to trigger reloads on
+         * @return this builder
+         */
+        public Builder withScheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Runs reloads on the given executor instead of the executor shared by all periodical reload strategies.
+         * The executor is not shut down when the strategy stops.
+         *
+         * @param executor executor to run reloads on
+         * @return this builder
+         */
+        public Builder withExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public PeriodicalReloadStrategy build() {
-            return new PeriodicalReloadStrategy(interval);
+            ScheduledExecutorService reloadScheduler = scheduler != null ? scheduler : SharedScheduler.INSTANCE;
+            Executor reloadExecutor = executor != null ? executor : scheduler != null ? Runnable::run : SharedExecutor.INSTANCE;
+            return new PeriodicalReloadStrategy(interval, jitter, reloadScheduler, reloadExecutor);
         }
 
     }
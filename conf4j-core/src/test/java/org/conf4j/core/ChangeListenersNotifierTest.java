@@ -0,0 +1,181 @@
+package org.conf4j.core;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class ChangeListenersNotifierTest {
+
+    @Test
+    public void testSlowListenerDoesNotBlockOtherListenersWhenDispatchingAsynchronously() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch slowListenerReleased = new CountDownLatch(1);
+        CountDownLatch fastListenerNotified = new CountDownLatch(1);
+
+        try {
+            ChangeListenersNotifier<String> notifier = new ChangeListenersNotifier<>(executor, null, ChangeListenerMetrics.NO_OP);
+            notifier.registerChangeListener((oldConfig, newConfig) -> awaitQuietly(slowListenerReleased));
+            notifier.registerChangeListener((oldConfig, newConfig) -> fastListenerNotified.countDown());
+
+            notifier.notifyListenersOnConfigChangeIfNeeded("old", "new");
+
+            assertThat(fastListenerNotified.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            slowListenerReleased.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testListenerNotifiedInOrderWhenDispatchingAsynchronously() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<String> notifiedConfigs = new CopyOnWriteArrayList<>();
+        List<String> expectedConfigs = IntStream.range(0, 100)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.toList());
+
+        try {
+            ChangeListenersNotifier<String> notifier = new ChangeListenersNotifier<>(executor, null, ChangeListenerMetrics.NO_OP);
+            notifier.registerChangeListener((oldConfig, newConfig) -> notifiedConfigs.add(newConfig));
+
+            String oldConfig = null;
+            for (String newConfig : expectedConfigs) {
+                notifier.notifyListenersOnConfigChangeIfNeeded(oldConfig, newConfig);
+                oldConfig = newConfig;
+            }
+
+            await("All notifications delivered")
+                    .atMost(5, TimeUnit.SECONDS)
+                    .until(() -> notifiedConfigs.size() == expectedConfigs.size());
+            assertThat(notifiedConfigs).containsExactlyElementsOf(expectedConfigs);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testListenerDurationReportedToMetrics() {
+        LongAdder numOfNotifiedListeners = new LongAdder();
+        LongAdder numOfTimedOutListeners = new LongAdder();
+        ChangeListenerMetrics metrics = new ChangeListenerMetrics() {
+            @Override
+            public void listenerNotified(BiConsumer<?, ?> listener, Duration duration) {
+                numOfNotifiedListeners.increment();
+            }
+
+            @Override
+            public void listenerTimedOut(BiConsumer<?, ?> listener, Duration duration) {
+                numOfTimedOutListeners.increment();
+            }
+        };
+
+        ChangeListenersNotifier<String> notifier = new ChangeListenersNotifier<>(null, Duration.ofMillis(10), metrics);
+        notifier.registerChangeListener((oldConfig, newConfig) -> {});
+        notifier.registerChangeListener((oldConfig, newConfig) -> sleepQuietly(Duration.ofMillis(50)));
+
+        notifier.notifyListenersOnConfigChangeIfNeeded("old", "new");
+
+        assertThat(numOfNotifiedListeners.longValue()).isEqualTo(2);
+        await("Slow listener reported")
+                .atMost(5, TimeUnit.SECONDS)
+                .until(() -> numOfTimedOutListeners.longValue() == 1);
+    }
+
+    @Test
+    public void testHangingListenerReportedWhileRunning() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch listenerReleased = new CountDownLatch(1);
+        CountDownLatch listenerTimedOut = new CountDownLatch(1);
+        ChangeListenerMetrics metrics = new ChangeListenerMetrics() {
+            @Override
+            public void listenerNotified(BiConsumer<?, ?> listener, Duration duration) {}
+
+            @Override
+            public void listenerTimedOut(BiConsumer<?, ?> listener, Duration duration) {
+                listenerTimedOut.countDown();
+            }
+        };
+
+        try {
+            ChangeListenersNotifier<String> notifier = new ChangeListenersNotifier<>(executor, Duration.ofMillis(10), metrics);
+            notifier.registerChangeListener((oldConfig, newConfig) -> awaitQuietly(listenerReleased));
+
+            notifier.notifyListenersOnConfigChangeIfNeeded("old", "new");
+
+            assertThat(listenerTimedOut.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            listenerReleased.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testUnregisteredListenerNotNotified() {
+        LongAdder numOfCallsToFirstListener = new LongAdder();
+        LongAdder numOfCallsToSecondListener = new LongAdder();
+
+        ChangeListenersNotifier<String> notifier = new ChangeListenersNotifier<>();
+        ChangeListenerRegistration registration = notifier.registerChangeListener((oldConfig, newConfig) -> numOfCallsToFirstListener.increment());
+        notifier.registerChangeListener((oldConfig, newConfig) -> numOfCallsToSecondListener.increment());
+
+        notifier.notifyListenersOnConfigChangeIfNeeded("first", "second");
+        registration.unregister();
+        notifier.notifyListenersOnConfigChangeIfNeeded("second", "third");
+
+        assertThat(numOfCallsToFirstListener.longValue()).isEqualTo(1);
+        assertThat(numOfCallsToSecondListener.longValue()).isEqualTo(2);
+    }
+
+    @Test
+    public void testListenersRegisteredWhileNotifying() throws Exception {
+        ChangeListenersNotifier<Integer> notifier = new ChangeListenersNotifier<>();
+        LongAdder numOfNotifications = new LongAdder();
+        int numOfListeners = 10_000;
+
+        Thread registeringThread = new Thread(() -> {
+            for (int i = 0; i < numOfListeners; i++) {
+                notifier.registerChangeListener((oldConfig, newConfig) -> numOfNotifications.increment());
+            }
+        });
+
+        registeringThread.start();
+        for (int i = 0; registeringThread.isAlive(); i++) {
+            notifier.notifyListenersOnConfigChangeIfNeeded(i, i + 1);
+        }
+        registeringThread.join();
+
+        numOfNotifications.reset();
+        notifier.notifyListenersOnConfigChangeIfNeeded(0, 1);
+        assertThat(numOfNotifications.longValue()).isEqualTo(numOfListeners);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
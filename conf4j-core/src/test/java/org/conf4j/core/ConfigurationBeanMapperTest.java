@@ -0,0 +1,209 @@
+package org.conf4j.core;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.typesafe.config.ConfigFactory;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConfigurationBeanMapperTest {
+
+    @Test
+    public void testConfigMappedToBean() {
+        ConfigurationBeanMapper<MappedConfiguration> beanMapper = new ConfigurationBeanMapper<>(MappedConfiguration.class);
+
+        MappedConfiguration configuration = beanMapper.map(ConfigFactory.parseString(
+                "name = conf4j, port = 8080, maxFileSize = 10000000000, ratio = 0.75, enabled = true, " +
+                "description = null, tags = [a, b], limits { read = 1, write = 2 }, unknown = ignored"));
+
+        assertThat(configuration.name).isEqualTo("conf4j");
+        assertThat(configuration.port).isEqualTo(8080);
+        assertThat(configuration.maxFileSize).isEqualTo(10_000_000_000L);
+        assertThat(configuration.ratio).isEqualTo(0.75);
+        assertThat(configuration.enabled).isTrue();
+        assertThat(configuration.description).isNull();
+        assertThat(configuration.tags).containsExactly("a", "b");
+        assertThat(configuration.limits).containsEntry("read", 1).containsEntry("write", 2);
+    }
+
+    @Test
+    public void testInvalidValueReportedAsIllegalArgument() {
+        ConfigurationBeanMapper<MappedConfiguration> beanMapper = new ConfigurationBeanMapper<>(MappedConfiguration.class);
+
+        assertThatThrownBy(() -> beanMapper.map(ConfigFactory.parseString("port = not-a-number")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testGeneratedBinderUsedWhenPresent() {
+        ConfigurationBeanMapper<BoundConfiguration> beanMapper = new ConfigurationBeanMapper<>(BoundConfiguration.class);
+
+        BoundConfiguration configuration = beanMapper.map(ConfigFactory.parseString("name = conf4j"));
+
+        assertThat(configuration.name).isEqualTo("conf4j");
+        assertThat(configuration.boundBy).isEqualTo("generated");
+    }
+
+    @Test
+    public void testProvidedBinderPreferredOverGeneratedBinder() {
+        ConfigurationBeanMapper<BoundConfiguration> beanMapper = new ConfigurationBeanMapper<>(BoundConfiguration.class,
+                config -> new BoundConfiguration(config.getString("name"), "provided"));
+
+        BoundConfiguration configuration = beanMapper.map(ConfigFactory.parseString("name = conf4j"));
+
+        assertThat(configuration.boundBy).isEqualTo("provided");
+    }
+
+    @Test
+    public void testUnchangedSubObjectsReusedOnNextMapping() {
+        ConfigurationBeanMapper<EndpointsConfiguration> beanMapper = new ConfigurationBeanMapper<>(EndpointsConfiguration.class);
+        ReusableInstances firstInstances = new ReusableInstances(Collections.emptyMap());
+        EndpointsConfiguration configuration = beanMapper.map(ConfigFactory.parseString(
+                "primary { host = a, port = 1 }, secondary { host = b, port = 2 }, tags = [x, y]"), firstInstances);
+
+        ReusableInstances secondInstances = new ReusableInstances(firstInstances.instances());
+        EndpointsConfiguration changedConfiguration = beanMapper.map(ConfigFactory.parseString(
+                "primary { host = a, port = 3 }, secondary { host = b, port = 2 }, tags = [x, y]"), secondInstances);
+        assertThat(changedConfiguration).isNotSameAs(configuration);
+        assertThat(changedConfiguration.primary).isNotSameAs(configuration.primary);
+        assertThat(changedConfiguration.secondary).isSameAs(configuration.secondary);
+        assertThat(changedConfiguration.tags).isSameAs(configuration.tags);
+
+        EndpointsConfiguration unchangedConfiguration = beanMapper.map(ConfigFactory.parseString(
+                "primary { host = a, port = 3 }, secondary { host = b, port = 2 }, tags = [x, y]"),
+                new ReusableInstances(secondInstances.instances()));
+        assertThat(unchangedConfiguration).isSameAs(changedConfiguration);
+    }
+
+    @Test
+    public void testEqualSubObjectsAtDifferentPathsStayDistinct() {
+        ConfigurationBeanMapper<EndpointsConfiguration> beanMapper = new ConfigurationBeanMapper<>(EndpointsConfiguration.class);
+        ReusableInstances firstInstances = new ReusableInstances(Collections.emptyMap());
+        EndpointsConfiguration configuration = beanMapper.map(ConfigFactory.parseString(
+                "primary { host = h, port = 1 }, secondary { host = h, port = 1 }, tags = []"), firstInstances);
+        assertThat(configuration.primary).isNotSameAs(configuration.secondary);
+
+        EndpointsConfiguration reloadedConfiguration = beanMapper.map(ConfigFactory.parseString(
+                "primary { host = h, port = 1 }, secondary { host = h, port = 1 }, tags = [x]"),
+                new ReusableInstances(firstInstances.instances()));
+        assertThat(reloadedConfiguration.primary).isSameAs(configuration.primary);
+        assertThat(reloadedConfiguration.secondary).isSameAs(configuration.secondary);
+        assertThat(reloadedConfiguration.primary).isNotSameAs(reloadedConfiguration.secondary);
+    }
+
+    @Test
+    public void testSubObjectMovedToAnotherPathNotReused() {
+        ConfigurationBeanMapper<EndpointsConfiguration> beanMapper = new ConfigurationBeanMapper<>(EndpointsConfiguration.class);
+        ReusableInstances firstInstances = new ReusableInstances(Collections.emptyMap());
+        EndpointsConfiguration configuration = beanMapper.map(ConfigFactory.parseString(
+                "primary { host = a, port = 1 }, secondary { host = b, port = 2 }, tags = []"), firstInstances);
+
+        EndpointsConfiguration reloadedConfiguration = beanMapper.map(ConfigFactory.parseString(
+                "primary { host = b, port = 2 }, secondary { host = a, port = 1 }, tags = []"),
+                new ReusableInstances(firstInstances.instances()));
+        assertThat(reloadedConfiguration.primary).isNotSameAs(configuration.secondary);
+        assertThat(reloadedConfiguration.secondary).isNotSameAs(configuration.primary);
+    }
+
+    public static class EndpointsConfiguration {
+        final Endpoint primary;
+        final Endpoint secondary;
+        final List<String> tags;
+
+        @JsonCreator
+        EndpointsConfiguration(@JsonProperty("primary") Endpoint primary,
+                               @JsonProperty("secondary") Endpoint secondary,
+                               @JsonProperty("tags") List<String> tags) {
+            this.primary = primary;
+            this.secondary = secondary;
+            this.tags = tags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            EndpointsConfiguration that = (EndpointsConfiguration) o;
+            return Objects.equals(primary, that.primary) &&
+                    Objects.equals(secondary, that.secondary) &&
+                    Objects.equals(tags, that.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(primary, secondary, tags);
+        }
+    }
+
+    public static class Endpoint {
+        final String host;
+        final int port;
+
+        @JsonCreator
+        Endpoint(@JsonProperty("host") String host, @JsonProperty("port") int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Endpoint endpoint = (Endpoint) o;
+            return port == endpoint.port && Objects.equals(host, endpoint.host);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(host, port);
+        }
+    }
+
+    public static class BoundConfiguration {
+        final String name;
+        final String boundBy;
+
+        BoundConfiguration(String name, String boundBy) {
+            this.name = name;
+            this.boundBy = boundBy;
+        }
+    }
+
+    public static class MappedConfiguration {
+        String name;
+        int port;
+        long maxFileSize;
+        double ratio;
+        boolean enabled;
+        String description;
+        List<String> tags;
+        Map<String, Integer> limits;
+
+        @JsonCreator
+        MappedConfiguration(@JsonProperty("name") String name,
+                            @JsonProperty("port") int port,
+                            @JsonProperty("maxFileSize") long maxFileSize,
+                            @JsonProperty("ratio") double ratio,
+                            @JsonProperty("enabled") boolean enabled,
+                            @JsonProperty("description") String description,
+                            @JsonProperty("tags") List<String> tags,
+                            @JsonProperty("limits") Map<String, Integer> limits) {
+            this.name = name;
+            this.port = port;
+            this.maxFileSize = maxFileSize;
+            this.ratio = ratio;
+            this.enabled = enabled;
+            this.description = description;
+            this.tags = tags;
+            this.limits = limits;
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package org.conf4j.core;
+
+import com.typesafe.config.Config;
+
+/**
+ * Stands in for a binder generated at build time for {@link ConfigurationBeanMapperTest.BoundConfiguration}.
+ */
+public class ConfigurationBeanMapperTest_BoundConfiguration_ConfigurationBinder
+        implements ConfigurationBinder<ConfigurationBeanMapperTest.BoundConfiguration> {
+
+    @Override
+    public ConfigurationBeanMapperTest.BoundConfiguration bind(Config config) {
+        return new ConfigurationBeanMapperTest.BoundConfiguration(config.getString("name"), "generated");
+    }
+
+}
@@ -2,10 +2,21 @@ package org.conf4j.core;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.commons.lang3.RandomStringUtils;
 import org.conf4j.core.source.ClasspathConfigurationSource;
+import org.conf4j.core.source.FilesystemConfigurationSource;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 public class ConfigurationViewProviderTest {
 
@@ -36,6 +47,156 @@ public class ConfigurationViewProviderTest {
         assertThat(actualSubConfig).isEqualToComparingFieldByFieldRecursively(expectedSubConfig);
     }
 
+    @Test
+    public void testExtractorCalledOnlyOnParentChange() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeConfigToConfigurationFile(configFile, "localhost");
+
+        FilesystemConfigurationSource configurationSource = FilesystemConfigurationSource.builder()
+                .withFilePath(configFile.getAbsolutePath())
+                .build();
+
+        AtomicReference<Runnable> reloadCallbackReference = new AtomicReference<>();
+        ConfigurationProvider<TestConfiguration> configurationProvider = new ConfigurationProviderBuilder<>(TestConfiguration.class)
+                .withConfigurationSource(configurationSource)
+                .addReloadStrategy(reloadCallbackReference::set)
+                .build();
+
+        LongAdder numOfExtractorCalls = new LongAdder();
+        ConfigurationProvider<DatabaseConfiguration> subConfigurationProvider =
+                configurationProvider.createConfigurationProvider(configuration -> {
+                    numOfExtractorCalls.increment();
+                    return configuration.database;
+                });
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(subConfigurationProvider.get().host).isEqualTo("localhost");
+        }
+        assertThat(numOfExtractorCalls.longValue()).isEqualTo(1);
+
+        writeConfigToConfigurationFile(configFile, "remotehost");
+        reloadCallbackReference.get().run();
+
+        assertThat(subConfigurationProvider.get().host).isEqualTo("remotehost");
+        assertThat(numOfExtractorCalls.longValue()).isEqualTo(2);
+    }
+
+    @Test
+    public void testUnreferencedViewUnregisteredFromParent() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeConfigToConfigurationFile(configFile, "localhost");
+
+        AtomicReference<Runnable> reloadCallbackReference = new AtomicReference<>();
+        ConfigurationProvider<TestConfiguration> configurationProvider = createProviderWithReloadStrategy(configFile, reloadCallbackReference);
+
+        LongAdder numOfExtractorCalls = new LongAdder();
+        WeakReference<ConfigurationProvider<DatabaseConfiguration>> subConfigurationProviderReference = new WeakReference<>(
+                configurationProvider.createConfigurationProvider(configuration -> {
+                    numOfExtractorCalls.increment();
+                    return configuration.database;
+                }));
+
+        await("Unreferenced view garbage collected")
+                .atMost(10, TimeUnit.SECONDS)
+                .until(() -> {
+                    System.gc();
+                    return subConfigurationProviderReference.get() == null;
+                });
+
+        writeConfigToConfigurationFile(configFile, "remotehost");
+        reloadCallbackReference.get().run();
+
+        assertThat(numOfExtractorCalls.longValue()).isEqualTo(1);
+    }
+
+    @Test
+    public void testListenerOfNestedViewNotifiedAfterIntermediateViewUnreferenced() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeConfigToConfigurationFile(configFile, "localhost");
+
+        AtomicReference<Runnable> reloadCallbackReference = new AtomicReference<>();
+        ConfigurationProvider<TestConfiguration> configurationProvider = createProviderWithReloadStrategy(configFile, reloadCallbackReference);
+
+        LongAdder numOfCallsToChangeListener = new LongAdder();
+        WeakReference<ConfigurationProvider<DatabaseConfiguration>> intermediateProviderReference = new WeakReference<>(
+                configurationProvider.createConfigurationProvider(configuration -> configuration.database));
+        intermediateProviderReference.get()
+                .createConfigurationProvider(database -> database.host)
+                .registerChangeListener((oldHost, newHost) -> numOfCallsToChangeListener.increment());
+
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+
+        writeConfigToConfigurationFile(configFile, "remotehost");
+        reloadCallbackReference.get().run();
+        assertThat(intermediateProviderReference.get()).isNotNull();
+        assertThat(numOfCallsToChangeListener.longValue()).isEqualTo(1);
+    }
+
+    @Test
+    public void testIntermediateViewUnreferencedAfterNestedViewListenerUnregistered() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeConfigToConfigurationFile(configFile, "localhost");
+
+        AtomicReference<Runnable> reloadCallbackReference = new AtomicReference<>();
+        ConfigurationProvider<TestConfiguration> configurationProvider = createProviderWithReloadStrategy(configFile, reloadCallbackReference);
+
+        WeakReference<ConfigurationProvider<DatabaseConfiguration>> intermediateProviderReference = new WeakReference<>(
+                configurationProvider.createConfigurationProvider(configuration -> configuration.database));
+        // The registration references the nested view, so it's dropped after unregistering
+        AtomicReference<ChangeListenerRegistration> registrationReference = new AtomicReference<>(intermediateProviderReference.get()
+                .createConfigurationProvider(database -> database.host)
+                .registerChangeListener((oldHost, newHost) -> {}));
+
+        registrationReference.getAndSet(null).unregister();
+        await("Intermediate view garbage collected")
+                .atMost(10, TimeUnit.SECONDS)
+                .until(() -> {
+                    System.gc();
+                    return intermediateProviderReference.get() == null;
+                });
+    }
+
+    @Test
+    public void testClosedViewStopsFollowingParent() throws Exception {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeConfigToConfigurationFile(configFile, "localhost");
+
+        AtomicReference<Runnable> reloadCallbackReference = new AtomicReference<>();
+        ConfigurationProvider<TestConfiguration> configurationProvider = createProviderWithReloadStrategy(configFile, reloadCallbackReference);
+
+        LongAdder numOfCallsToChangeListener = new LongAdder();
+        ConfigurationProvider<DatabaseConfiguration> subConfigurationProvider =
+                configurationProvider.createConfigurationProvider(configuration -> configuration.database);
+        subConfigurationProvider.registerChangeListener((oldConfig, newConfig) -> numOfCallsToChangeListener.increment());
+
+        subConfigurationProvider.close();
+        writeConfigToConfigurationFile(configFile, "remotehost");
+        reloadCallbackReference.get().run();
+
+        assertThat(subConfigurationProvider.get().host).isEqualTo("localhost");
+        assertThat(numOfCallsToChangeListener.longValue()).isEqualTo(0);
+    }
+
+    private ConfigurationProvider<TestConfiguration> createProviderWithReloadStrategy(File configFile,
+                                                                                      AtomicReference<Runnable> reloadCallbackReference) {
+        FilesystemConfigurationSource configurationSource = FilesystemConfigurationSource.builder()
+                .withFilePath(configFile.getAbsolutePath())
+                .build();
+
+        return new ConfigurationProviderBuilder<>(TestConfiguration.class)
+                .withConfigurationSource(configurationSource)
+                .addReloadStrategy(reloadCallbackReference::set)
+                .build();
+    }
+
+    private void writeConfigToConfigurationFile(File configurationFile, String databaseHost) throws IOException {
+        FileOutputStream out = new FileOutputStream(configurationFile);
+        out.write(("database: { host: " + databaseHost + " }").getBytes());
+        out.close();
+    }
+
     public static class TestConfiguration {
 
         int port;
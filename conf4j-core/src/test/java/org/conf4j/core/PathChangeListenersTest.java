@@ -0,0 +1,72 @@
+package org.conf4j.core;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PathChangeListenersTest {
+
+    @Test
+    public void testUnregisteredListenerNotNotified() {
+        PathChangeListeners pathChangeListeners = new PathChangeListeners(ChangeListenersNotifier::new);
+        LongAdder numOfNotifications = new LongAdder();
+        ChangeListenerRegistration registration = pathChangeListeners.registerChangeListener("db.pool",
+                (oldValue, newValue) -> numOfNotifications.increment());
+
+        Config oldConfig = ConfigFactory.parseString("db.pool.maxSize: 1");
+        Config newConfig = ConfigFactory.parseString("db.pool.maxSize: 2");
+        pathChangeListeners.notifyListenersOnConfigChange(oldConfig, newConfig);
+        registration.unregister();
+        pathChangeListeners.notifyListenersOnConfigChange(newConfig, oldConfig);
+
+        assertThat(numOfNotifications.longValue()).isEqualTo(1);
+    }
+
+    @Test
+    public void testListenerUnregisteredDuringNotificationOfAnotherPathNotNotified() {
+        PathChangeListeners pathChangeListeners = new PathChangeListeners(ChangeListenersNotifier::new);
+        LongAdder numOfNotifications = new LongAdder();
+        AtomicReference<ChangeListenerRegistration> hostRegistration = new AtomicReference<>();
+        AtomicReference<ChangeListenerRegistration> portRegistration = new AtomicReference<>();
+        // Whichever path is notified first unregisters the last listener of the other one
+        hostRegistration.set(pathChangeListeners.registerChangeListener("db.host", (oldValue, newValue) -> {
+            numOfNotifications.increment();
+            portRegistration.get().unregister();
+        }));
+        portRegistration.set(pathChangeListeners.registerChangeListener("db.port", (oldValue, newValue) -> {
+            numOfNotifications.increment();
+            hostRegistration.get().unregister();
+        }));
+
+        Config oldConfig = ConfigFactory.parseString("db { host: localhost, port: 1 }");
+        Config newConfig = ConfigFactory.parseString("db { host: remotehost, port: 2 }");
+        pathChangeListeners.notifyListenersOnConfigChange(oldConfig, newConfig);
+
+        assertThat(numOfNotifications.longValue()).isEqualTo(1);
+    }
+
+    @Test
+    public void testNotifierOfPathRemovedWithItsLastListener() {
+        LongAdder numOfCreatedNotifiers = new LongAdder();
+        PathChangeListeners pathChangeListeners = new PathChangeListeners(() -> {
+            numOfCreatedNotifiers.increment();
+            return new ChangeListenersNotifier<>();
+        });
+
+        ChangeListenerRegistration firstRegistration = pathChangeListeners.registerChangeListener("db", (oldValue, newValue) -> {});
+        ChangeListenerRegistration secondRegistration = pathChangeListeners.registerChangeListener("db", (oldValue, newValue) -> {});
+        firstRegistration.unregister();
+        pathChangeListeners.registerChangeListener("db", (oldValue, newValue) -> {}).unregister();
+        assertThat(numOfCreatedNotifiers.longValue()).isEqualTo(1);
+
+        secondRegistration.unregister();
+        pathChangeListeners.registerChangeListener("db", (oldValue, newValue) -> {});
+        assertThat(numOfCreatedNotifiers.longValue()).isEqualTo(2);
+    }
+
+}
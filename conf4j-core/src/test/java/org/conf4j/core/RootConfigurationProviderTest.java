@@ -3,7 +3,13 @@ package org.conf4j.core;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValue;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.conf4j.core.ConfigurationBeanMapperTest.EndpointsConfiguration;
+import org.conf4j.core.ext.ConfigurationExtension;
+import org.conf4j.core.source.ConfigurationSource;
 import org.conf4j.core.source.FilesystemConfigurationSource;
 import org.conf4j.core.source.WatchableConfigurationSource;
 import org.conf4j.core.source.reload.ReloadStrategy;
@@ -12,11 +18,17 @@ import org.junit.Test;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
 public class RootConfigurationProviderTest {
 
@@ -116,6 +128,192 @@ public class RootConfigurationProviderTest {
         assertThat(numOfCallsToChangeListener.longValue()).isEqualTo(1);
     }
 
+    @Test
+    public void testPathChangeListenersNotifiedOnlyAboutChangedPaths() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeToConfigurationFile(configFile, "libraryName: conf4j, db { pool { maxSize: 10, minSize: 1 } }, other: 1");
+
+        AtomicReference<Runnable> reloadCallbackReference = new AtomicReference<>();
+        ConfigurationProvider<TestConfiguration> provider = createConfigProviderWithReloadStrategy(configFile, reloadCallbackReference);
+
+        AtomicReference<Object> oldMaxSize = new AtomicReference<>();
+        AtomicReference<Object> newMaxSize = new AtomicReference<>();
+        LongAdder numOfDbChanges = new LongAdder();
+        LongAdder numOfOtherChanges = new LongAdder();
+        provider.registerPathChangeListener("db.pool.maxSize", (oldValue, newValue) -> {
+            oldMaxSize.set(oldValue.unwrapped());
+            newMaxSize.set(newValue.unwrapped());
+        });
+        provider.registerPathChangeListener("db", (oldValue, newValue) -> numOfDbChanges.increment());
+        provider.registerPathChangeListener("other", (oldValue, newValue) -> numOfOtherChanges.increment());
+
+        writeToConfigurationFile(configFile, "libraryName: conf4j, db { pool { maxSize: 200, minSize: 1 } }, other: 1");
+        reloadCallbackReference.get().run();
+
+        assertThat(oldMaxSize.get()).isEqualTo(10);
+        assertThat(newMaxSize.get()).isEqualTo(200);
+        assertThat(numOfDbChanges.longValue()).isEqualTo(1);
+        assertThat(numOfOtherChanges.longValue()).isZero();
+    }
+
+    @Test
+    public void testPathChangeListenerNotifiedWhenPathAdded() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeToConfigurationFile(configFile, "libraryName: conf4j");
+
+        AtomicReference<Runnable> reloadCallbackReference = new AtomicReference<>();
+        ConfigurationProvider<TestConfiguration> provider = createConfigProviderWithReloadStrategy(configFile, reloadCallbackReference);
+
+        AtomicReference<ConfigValue> oldMaxSize = new AtomicReference<>();
+        AtomicReference<ConfigValue> newMaxSize = new AtomicReference<>();
+        provider.registerPathChangeListener("db.pool.maxSize", (oldValue, newValue) -> {
+            oldMaxSize.set(oldValue);
+            newMaxSize.set(newValue);
+        });
+
+        writeToConfigurationFile(configFile, "libraryName: conf4j, db.pool.maxSize: 5");
+        reloadCallbackReference.get().run();
+
+        assertThat(oldMaxSize.get()).isNull();
+        assertThat(newMaxSize.get().unwrapped()).isEqualTo(5);
+    }
+
+    @Test
+    public void testSettingsUpdatedOnReload() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeToConfigurationFile(configFile, "libraryName: conf4j, maxSize: 10, enabled: false, timeout: 1s");
+
+        AtomicReference<Runnable> reloadCallbackReference = new AtomicReference<>();
+        ConfigurationProvider<TestConfiguration> provider = createConfigProviderWithReloadStrategy(configFile, reloadCallbackReference);
+
+        IntSetting maxSize = provider.intSetting("maxSize");
+        LongSetting maxSizeAsLong = provider.longSetting("maxSize");
+        BooleanSetting enabled = provider.booleanSetting("enabled");
+        DurationSetting timeout = provider.durationSetting("timeout");
+        assertThat(maxSize.get()).isEqualTo(10);
+        assertThat(maxSizeAsLong.get()).isEqualTo(10L);
+        assertThat(enabled.get()).isFalse();
+        assertThat(timeout.toMillis()).isEqualTo(1000L);
+
+        AtomicReference<Integer> maxSizeSeenByListener = new AtomicReference<>();
+        provider.registerPathChangeListener("maxSize", (oldValue, newValue) -> maxSizeSeenByListener.set(maxSize.get()));
+
+        writeToConfigurationFile(configFile, "libraryName: conf4j, maxSize: 200, enabled: true, timeout: 500ms");
+        reloadCallbackReference.get().run();
+
+        assertThat(maxSize.get()).isEqualTo(200);
+        assertThat(maxSizeAsLong.get()).isEqualTo(200L);
+        assertThat(enabled.get()).isTrue();
+        assertThat(timeout.get()).isEqualTo(Duration.ofMillis(500));
+        assertThat(maxSizeSeenByListener.get()).isEqualTo(200);
+    }
+
+    @Test
+    public void testSettingKeepsLastValueWhenRemovedOrInvalid() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeToConfigurationFile(configFile, "libraryName: conf4j, maxSize: 10");
+
+        AtomicReference<Runnable> reloadCallbackReference = new AtomicReference<>();
+        ConfigurationProvider<TestConfiguration> provider = createConfigProviderWithReloadStrategy(configFile, reloadCallbackReference);
+        IntSetting maxSize = provider.intSetting("maxSize");
+
+        writeToConfigurationFile(configFile, "libraryName: conf4j, maxSize: invalid");
+        reloadCallbackReference.get().run();
+        assertThat(maxSize.get()).isEqualTo(10);
+
+        writeToConfigurationFile(configFile, "libraryName: conf4j");
+        reloadCallbackReference.get().run();
+        assertThat(maxSize.get()).isEqualTo(10);
+    }
+
+    @Test
+    public void testSameSettingReturnedForSamePath() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeToConfigurationFile(configFile, "maxSize: 10");
+        ConfigurationProvider<TestConfiguration> provider = createConfigProviderWithReloadStrategy(configFile, new AtomicReference<>());
+
+        IntSetting maxSize = provider.intSetting("maxSize");
+        assertThat(provider.intSetting("maxSize")).isSameAs(maxSize);
+        assertThat(provider.intSetting("\"maxSize\"")).isSameAs(maxSize);
+        assertThat(provider.longSetting("maxSize").get()).isEqualTo(10);
+    }
+
+    @Test(expected = ConfigException.Missing.class)
+    public void testSettingOfMissingPathFails() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeToConfigurationFile(configFile, "libraryName: conf4j");
+
+        ConfigurationProvider<TestConfiguration> provider = createConfigProviderWithReloadStrategy(configFile, new AtomicReference<>());
+        provider.intSetting("maxSize");
+    }
+
+    @Test
+    public void testReloadSkippedWhenConfigurationSourceDidNotChange() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeConfigToConfigurationFile(configFile);
+
+        LongAdder numOfCallsToChangeListener = new LongAdder();
+
+        AtomicReference<Runnable> reloadCallbackReference = new AtomicReference<>();
+        ConfigurationProvider<TestConfiguration> provider = createConfigProviderWithReloadStrategy(configFile, reloadCallbackReference);
+
+        provider.registerChangeListener((oldConfig, newConfig) -> numOfCallsToChangeListener.increment());
+        TestConfiguration configBeforeReload = provider.get();
+
+        writeConfigToConfigurationFile(configFile);
+        reloadCallbackReference.get().run();
+
+        assertThat(provider.get()).isSameAs(configBeforeReload);
+        assertThat(numOfCallsToChangeListener.longValue()).isEqualTo(0);
+    }
+
+    @Test
+    public void testConcurrentReloadsCoalesced() throws Exception {
+        CountDownLatch firstReloadStarted = new CountDownLatch(1);
+        CountDownLatch firstReloadReleased = new CountDownLatch(1);
+        LongAdder numOfSourceReloads = new LongAdder();
+
+        ConfigurationSource blockingSource = new ConfigurationSource() {
+            @Override
+            public Config getConfig() {
+                return ConfigFactory.parseString("libraryName: conf4j");
+            }
+
+            @Override
+            public void reload() {
+                numOfSourceReloads.increment();
+                if (numOfSourceReloads.longValue() == 1) {
+                    firstReloadStarted.countDown();
+                    try {
+                        firstReloadReleased.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+
+        AtomicReference<Runnable> reloadCallbackReference = new AtomicReference<>();
+        new ConfigurationProviderBuilder<>(TestConfiguration.class)
+                .withConfigurationSource(blockingSource)
+                .addReloadStrategy(reloadCallbackReference::set)
+                .build();
+
+        Runnable reloadCallback = reloadCallbackReference.get();
+        Thread firstReload = new Thread(reloadCallback);
+        firstReload.start();
+        assertThat(firstReloadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        reloadCallback.run();
+        reloadCallback.run();
+        assertThat(numOfSourceReloads.longValue()).isEqualTo(1);
+
+        firstReloadReleased.countDown();
+        firstReload.join(5000);
+
+        assertThat(numOfSourceReloads.longValue()).isEqualTo(2);
+    }
+
     @Test
     public void testStopTriggeredOnReloadStrategiesOnClose() throws Exception {
         AtomicBoolean stopCalled = new AtomicBoolean(false);
@@ -140,6 +338,323 @@ public class RootConfigurationProviderTest {
         assertThat(stopCalled.get()).isTrue();
     }
 
+    @Test
+    public void testReloadStrategiesStartedInParallel() throws Exception {
+        CountDownLatch allStrategiesStarting = new CountDownLatch(2);
+        ReloadStrategy awaitingReloadStrategy = reloadCallback -> {
+            allStrategiesStarting.countDown();
+            awaitUninterruptibly(allStrategiesStarting);
+        };
+
+        FilesystemConfigurationSource configurationSource = createSourceWithFile("test-configuration.conf");
+        ConfigurationProvider<TestConfiguration> provider = new ConfigurationProviderBuilder<>(TestConfiguration.class)
+                .withConfigurationSource(configurationSource)
+                .addReloadStrategy(awaitingReloadStrategy)
+                .addReloadStrategy(awaitingReloadStrategy)
+                .withReloadStrategiesStartTimeout(Duration.ofSeconds(5))
+                .build();
+
+        assertThat(allStrategiesStarting.getCount()).isZero();
+        provider.close();
+    }
+
+    @Test
+    public void testBuildNotBlockedByReloadStrategyStartedInBackground() throws Exception {
+        CountDownLatch startReleased = new CountDownLatch(1);
+        AtomicBoolean started = new AtomicBoolean(false);
+        ReloadStrategy blockingReloadStrategy = reloadCallback -> {
+            awaitUninterruptibly(startReleased);
+            started.set(true);
+        };
+
+        FilesystemConfigurationSource configurationSource = createSourceWithFile("test-configuration.conf");
+        ConfigurationProvider<TestConfiguration> provider = new ConfigurationProviderBuilder<>(TestConfiguration.class)
+                .withConfigurationSource(configurationSource)
+                .addReloadStrategy(blockingReloadStrategy)
+                .startReloadStrategiesInBackground()
+                .build();
+
+        assertThat(provider.get().libraryName).isEqualTo("conf4j");
+        assertThat(started.get()).isFalse();
+
+        startReleased.countDown();
+        provider.close();
+        assertThat(started.get()).isTrue();
+    }
+
+    @Test
+    public void testBuildContinuesAfterReloadStrategiesStartTimeout() throws Exception {
+        CountDownLatch startReleased = new CountDownLatch(1);
+        ReloadStrategy blockingReloadStrategy = reloadCallback -> awaitUninterruptibly(startReleased);
+
+        FilesystemConfigurationSource configurationSource = createSourceWithFile("test-configuration.conf");
+        ConfigurationProvider<TestConfiguration> provider = new ConfigurationProviderBuilder<>(TestConfiguration.class)
+                .withConfigurationSource(configurationSource)
+                .addReloadStrategy(blockingReloadStrategy)
+                .withReloadStrategiesStartTimeout(Duration.ofMillis(50))
+                .build();
+
+        assertThat(provider.get().libraryName).isEqualTo("conf4j");
+        startReleased.countDown();
+        provider.close();
+    }
+
+    @Test
+    public void testStartedReloadStrategiesStoppedWhenAnotherFailsToStart() {
+        AtomicBoolean stopCalled = new AtomicBoolean(false);
+        ReloadStrategy startedReloadStrategy = new ReloadStrategy() {
+            @Override
+            public void start(Runnable reloadCallback) {}
+
+            @Override
+            public void stop() {
+                stopCalled.set(true);
+            }
+        };
+        ReloadStrategy failingReloadStrategy = reloadCallback -> {
+            throw new IllegalStateException("Failed to start");
+        };
+
+        FilesystemConfigurationSource configurationSource = createSourceWithFile("test-configuration.conf");
+        assertThatThrownBy(() -> new ConfigurationProviderBuilder<>(TestConfiguration.class)
+                .withConfigurationSource(configurationSource)
+                .addReloadStrategy(startedReloadStrategy)
+                .addReloadStrategy(failingReloadStrategy)
+                .build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Failed to start");
+        assertThat(stopCalled.get()).isTrue();
+    }
+
+    @Test
+    public void testGetRacingBackgroundInitializationNotBlockedByReloadStrategyStart() throws Exception {
+        FilesystemConfigurationSource fileSource = createSourceWithFile("test-configuration.conf");
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        ConfigurationSource blockingSource = new ConfigurationSource() {
+            @Override
+            public Config getConfig() {
+                awaitUninterruptibly(loadReleased);
+                return fileSource.getConfig();
+            }
+
+            @Override
+            public void reload() {
+                fileSource.reload();
+            }
+        };
+        CountDownLatch startReleased = new CountDownLatch(1);
+        ReloadStrategy blockingReloadStrategy = reloadCallback -> awaitUninterruptibly(startReleased);
+
+        ConfigurationProvider<TestConfiguration> provider = new ConfigurationProviderBuilder<>(TestConfiguration.class)
+                .withConfigurationSource(blockingSource)
+                .addReloadStrategy(blockingReloadStrategy)
+                .initializeInBackground()
+                .build();
+
+        try {
+            CompletableFuture<TestConfiguration> config = new CompletableFuture<>();
+            Thread getThread = new Thread(() -> config.complete(provider.get()));
+            getThread.start();
+            await("Get waiting for background initialization")
+                    .atMost(5, TimeUnit.SECONDS)
+                    .until(() -> getThread.getState() == Thread.State.BLOCKED);
+
+            loadReleased.countDown();
+            assertThat(config.get(1, TimeUnit.SECONDS).libraryName).isEqualTo("conf4j");
+        } finally {
+            loadReleased.countDown();
+            startReleased.countDown();
+            provider.close();
+        }
+    }
+
+    @Test
+    public void testReloadStrategiesNotLeftRunningWhenClosedDuringLazyFirstGet() throws Exception {
+        FilesystemConfigurationSource fileSource = createSourceWithFile("test-configuration.conf");
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        ConfigurationSource blockingSource = new ConfigurationSource() {
+            @Override
+            public Config getConfig() {
+                loadStarted.countDown();
+                awaitUninterruptibly(loadReleased);
+                return fileSource.getConfig();
+            }
+
+            @Override
+            public void reload() {
+                fileSource.reload();
+            }
+        };
+        AtomicBoolean reloadStrategyRunning = new AtomicBoolean(false);
+        ReloadStrategy reloadStrategy = new ReloadStrategy() {
+            @Override
+            public void start(Runnable reloadCallback) {
+                reloadStrategyRunning.set(true);
+            }
+
+            @Override
+            public void stop() {
+                reloadStrategyRunning.set(false);
+            }
+        };
+
+        ConfigurationProvider<TestConfiguration> provider = new ConfigurationProviderBuilder<>(TestConfiguration.class)
+                .withConfigurationSource(blockingSource)
+                .addReloadStrategy(reloadStrategy)
+                .lazyInitialization()
+                .build();
+
+        CompletableFuture<TestConfiguration> config = CompletableFuture.supplyAsync(provider::get);
+        try {
+            awaitUninterruptibly(loadStarted);
+            provider.close();
+        } finally {
+            loadReleased.countDown();
+        }
+
+        assertThat(config.get(5, TimeUnit.SECONDS).libraryName).isEqualTo("conf4j");
+        assertThat(reloadStrategyRunning.get()).isFalse();
+    }
+
+    @Test
+    public void testLazyInitializationLoadsConfigurationOnFirstGet() throws Exception {
+        FilesystemConfigurationSource fileSource = createSourceWithFile("test-configuration.conf");
+        LongAdder numOfSourceReads = new LongAdder();
+        AtomicBoolean reloadStrategyStarted = new AtomicBoolean(false);
+        ConfigurationSource countingSource = new ConfigurationSource() {
+            @Override
+            public Config getConfig() {
+                numOfSourceReads.increment();
+                return fileSource.getConfig();
+            }
+
+            @Override
+            public void reload() {
+                fileSource.reload();
+            }
+        };
+
+        ConfigurationProvider<TestConfiguration> provider = new ConfigurationProviderBuilder<>(TestConfiguration.class)
+                .withConfigurationSource(countingSource)
+                .addReloadStrategy(reloadCallback -> reloadStrategyStarted.set(true))
+                .lazyInitialization()
+                .build();
+
+        assertThat(numOfSourceReads.longValue()).isZero();
+        assertThat(reloadStrategyStarted.get()).isFalse();
+
+        assertThat(provider.get().libraryName).isEqualTo("conf4j");
+        assertThat(reloadStrategyStarted.get()).isTrue();
+        provider.close();
+    }
+
+    @Test
+    public void testBackgroundInitialization() throws Exception {
+        FilesystemConfigurationSource configurationSource = createSourceWithFile("test-configuration.conf");
+        ConfigurationProvider<TestConfiguration> provider = new ConfigurationProviderBuilder<>(TestConfiguration.class)
+                .withConfigurationSource(configurationSource)
+                .initializeInBackground()
+                .build();
+
+        assertThat(provider.get().libraryName).isEqualTo("conf4j");
+        assertThat(provider.get().numberOfDaysInWeek).isEqualTo(7);
+        provider.close();
+    }
+
+    @Test
+    public void testExplicitExtensionsUsedAndClosed() throws Exception {
+        AtomicReference<Object> assembledBean = new AtomicReference<>();
+        AtomicBoolean extensionClosed = new AtomicBoolean(false);
+        ConfigurationExtension extension = new ConfigurationExtension() {
+            @Override
+            public void afterConfigBeanAssembly(Object resolvedBean) {
+                assembledBean.set(resolvedBean);
+            }
+
+            @Override
+            public void close() {
+                extensionClosed.set(true);
+            }
+        };
+
+        ConfigurationProvider<TestConfiguration> provider = new ConfigurationProviderBuilder<>(TestConfiguration.class)
+                .withConfigurationSource(createSourceWithFile("test-configuration.conf"))
+                .withExtensions(extension)
+                .build();
+
+        assertThat(assembledBean.get()).isSameAs(provider.get());
+        provider.close();
+        assertThat(extensionClosed.get()).isTrue();
+    }
+
+    @Test
+    public void testInstancesOfRejectedBeanNotReused() throws Exception {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeToConfigurationFile(configFile, "primary { host = a, port = 1 }, secondary { host = b, port = 1 }, tags = []");
+        AtomicReference<EndpointsConfiguration> rejectedBean = new AtomicReference<>();
+        ConfigurationExtension rejectingExtension = new ConfigurationExtension() {
+            @Override
+            public void afterConfigBeanAssembly(Object resolvedBean) {
+                EndpointsConfiguration configuration = (EndpointsConfiguration) resolvedBean;
+                if (configuration.secondary.port == 0) {
+                    rejectedBean.set(configuration);
+                    throw new IllegalStateException("Invalid secondary port");
+                }
+            }
+        };
+
+        AtomicReference<Runnable> reloadCallbackReference = new AtomicReference<>();
+        ConfigurationProvider<EndpointsConfiguration> provider = new ConfigurationProviderBuilder<>(EndpointsConfiguration.class)
+                .withConfigurationSource(FilesystemConfigurationSource.builder()
+                        .withFilePath(configFile.getAbsolutePath())
+                        .build())
+                .addReloadStrategy(reloadCallbackReference::set)
+                .withExtensions(rejectingExtension)
+                .build();
+
+        writeToConfigurationFile(configFile, "primary { host = a, port = 2 }, secondary { host = b, port = 0 }, tags = []");
+        assertThatThrownBy(() -> reloadCallbackReference.get().run()).isInstanceOf(IllegalStateException.class);
+        assertThat(provider.get().primary.port).isEqualTo(1);
+
+        writeToConfigurationFile(configFile, "primary { host = a, port = 2 }, secondary { host = b, port = 2 }, tags = []");
+        reloadCallbackReference.get().run();
+        assertThat(provider.get().primary).isEqualTo(rejectedBean.get().primary);
+        assertThat(provider.get().primary).isNotSameAs(rejectedBean.get().primary);
+        provider.close();
+    }
+
+    @Test
+    public void testConfigurationSourcesClosedOnClose() throws Exception {
+        AtomicBoolean fallbackClosed = new AtomicBoolean(false);
+        FilesystemConfigurationSource fallbackSource = createSourceWithFile("defaults.conf");
+        ConfigurationSource closeTrackingFallbackSource = new ConfigurationSource() {
+            @Override
+            public Config getConfig() {
+                return fallbackSource.getConfig();
+            }
+
+            @Override
+            public void reload() {
+                fallbackSource.reload();
+            }
+
+            @Override
+            public void close() {
+                fallbackClosed.set(true);
+            }
+        };
+
+        ConfigurationProvider<TestConfiguration> provider = new ConfigurationProviderBuilder<>(TestConfiguration.class)
+                .withConfigurationSource(createSourceWithFile("test-configuration.conf"))
+                .addFallback(closeTrackingFallbackSource)
+                .build();
+
+        assertThat(fallbackClosed.get()).isFalse();
+        provider.close();
+        assertThat(fallbackClosed.get()).isTrue();
+    }
+
     @Test
     public void testJacksonIgnoresUnknownProperties() {
         FilesystemConfigurationSource configurationSource = createSourceWithFile("test-configuration.conf");
@@ -237,12 +752,26 @@ public class RootConfigurationProviderTest {
                 .build();
     }
 
+    private void writeToConfigurationFile(File configurationFile, String content) throws IOException {
+        FileOutputStream out = new FileOutputStream(configurationFile);
+        out.write(content.getBytes());
+        out.close();
+    }
+
     private void writeConfigToConfigurationFile(File configurationFile) throws IOException {
         FileOutputStream out = new FileOutputStream(configurationFile);
         out.write("someProperty: someValue".getBytes());
         out.close();
     }
 
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public static class TestConfiguration {
         String libraryName;
         int numberOfDaysInWeek;
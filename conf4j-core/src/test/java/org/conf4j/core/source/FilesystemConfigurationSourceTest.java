@@ -5,6 +5,11 @@ import com.typesafe.config.ConfigFactory;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -49,6 +54,102 @@ public class FilesystemConfigurationSourceTest {
         assertThat(config).isEqualTo(ConfigFactory.empty());
     }
 
+    @Test
+    public void testSameConfigReturnedWhenFileDidNotChange() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeToFile(configFile, "message: first");
+
+        FilesystemConfigurationSource source = FilesystemConfigurationSource.builder()
+                .withFilePath(configFile.getAbsolutePath())
+                .build();
+
+        Config configBeforeReload = source.getConfig();
+        source.reload();
+        assertThat(source.getConfig()).isSameAs(configBeforeReload);
+
+        writeToFile(configFile, "message: second");
+        source.reload();
+        assertThat(source.getConfig()).isNotSameAs(configBeforeReload);
+        assertThat(source.getConfig().getString("message")).isEqualTo("second");
+    }
+
+    @Test
+    public void testFileNotParsedWhenLastModifiedAndSizeDidNotChange() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeToFile(configFile, "message: first");
+        long lastModified = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(1);
+        assertThat(configFile.setLastModified(lastModified)).isTrue();
+
+        FilesystemConfigurationSource source = FilesystemConfigurationSource.builder()
+                .withFilePath(configFile.getAbsolutePath())
+                .build();
+
+        writeToFile(configFile, "message: other");
+        assertThat(configFile.setLastModified(lastModified)).isTrue();
+
+        source.reload();
+        assertThat(source.getConfig().getString("message")).isEqualTo("first");
+    }
+
+    @Test
+    public void testRecentlyModifiedFileParsedWhenLastModifiedAndSizeDidNotChange() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeToFile(configFile, "message: first");
+        long lastModified = configFile.lastModified();
+
+        FilesystemConfigurationSource source = FilesystemConfigurationSource.builder()
+                .withFilePath(configFile.getAbsolutePath())
+                .build();
+
+        // Rewritten within the modification time resolution, the change is only visible in the content
+        writeToFile(configFile, "message: other");
+        assertThat(configFile.setLastModified(lastModified)).isTrue();
+
+        source.reload();
+        assertThat(source.getConfig().getString("message")).isEqualTo("other");
+    }
+
+    @Test
+    public void testFileParsedWhenContentDigestChanged() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeToFile(configFile, "message: first");
+        long lastModified = configFile.lastModified();
+
+        FilesystemConfigurationSource source = FilesystemConfigurationSource.builder()
+                .withFilePath(configFile.getAbsolutePath())
+                .compareContentDigest()
+                .build();
+
+        writeToFile(configFile, "message: other");
+        assertThat(configFile.setLastModified(lastModified)).isTrue();
+
+        source.reload();
+        assertThat(source.getConfig().getString("message")).isEqualTo("other");
+    }
+
+    @Test
+    public void testChangeOfIncludedFileReloaded() throws IOException {
+        File includedFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeToFile(includedFile, "value: 1");
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeToFile(configFile, "include file(\"" + includedFile.getAbsolutePath() + "\")");
+
+        FilesystemConfigurationSource source = FilesystemConfigurationSource.builder()
+                .withFilePath(configFile.getAbsolutePath())
+                .build();
+        assertThat(source.getConfig().getInt("value")).isEqualTo(1);
+
+        writeToFile(includedFile, "value: 2");
+        source.reload();
+        assertThat(source.getConfig().getInt("value")).isEqualTo(2);
+    }
+
+    private void writeToFile(File file, String content) throws IOException {
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(content.getBytes());
+        out.close();
+    }
+
     private void testConfigLoaded(String filePath) {
         FilesystemConfigurationSource source = FilesystemConfigurationSource.builder()
                 .withFilePath(filePath)
@@ -1,9 +1,17 @@
 package org.conf4j.core.source;
 
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class MergeConfigurationSourceTest {
 
@@ -30,4 +38,149 @@ public class MergeConfigurationSourceTest {
         assertThat(config.getInt("defaultProperty")).isEqualTo(555);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testMergedConfigReusedWhenSourcesDidNotChange() {
+        String filePath = getClass().getResource("fallback.conf").getPath();
+        FilesystemConfigurationSource fallbackSource = FilesystemConfigurationSource.builder()
+                .withFilePath(filePath)
+                .build();
+
+        ClasspathConfigurationSource source = ClasspathConfigurationSource.builder()
+                .withResourcePath("org/conf4j/core/source/test.conf")
+                .build();
+
+        MergeConfigurationSource mergeSource = MergeConfigurationSource.builder()
+                .withSource(source)
+                .withFallback(fallbackSource)
+                .build();
+
+        Config configBeforeReload = mergeSource.getConfig();
+        mergeSource.reload();
+        assertThat(mergeSource.getConfig()).isSameAs(configBeforeReload);
+    }
+
+    @Test
+    public void testNestedMergeSourcesKeepPriorityOrder() {
+        ConfigurationSource first = fixedSource("a = first");
+        ConfigurationSource second = fixedSource("a = second, b = second");
+        ConfigurationSource third = fixedSource("a = third, b = third, c = third");
+
+        MergeConfigurationSource nestedMergeSource = MergeConfigurationSource.builder()
+                .withSource(MergeConfigurationSource.builder()
+                        .withSource(first)
+                        .withFallback(second)
+                        .build())
+                .withFallback(third)
+                .build();
+
+        Config config = nestedMergeSource.getConfig();
+        assertThat(config.getString("a")).isEqualTo("first");
+        assertThat(config.getString("b")).isEqualTo("second");
+        assertThat(config.getString("c")).isEqualTo("third");
+    }
+
+    @Test
+    public void testSourcesReloadedConcurrentlyWithReloadExecutor() {
+        ExecutorService reloadExecutor = Executors.newFixedThreadPool(3);
+        try {
+            CountDownLatch allReloadsStarted = new CountDownLatch(3);
+            MergeConfigurationSource mergeSource = MergeConfigurationSource.builder()
+                    .withSource(awaitingSource(allReloadsStarted))
+                    .withFallbacks(awaitingSource(allReloadsStarted), awaitingSource(allReloadsStarted))
+                    .withReloadExecutor(reloadExecutor)
+                    .build();
+
+            mergeSource.reload();
+            assertThat(allReloadsStarted.getCount()).isZero();
+        } finally {
+            reloadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailingSourceDoesNotPreventConcurrentReloadOfOtherSources() {
+        ExecutorService reloadExecutor = Executors.newFixedThreadPool(2);
+        try {
+            AtomicInteger reloads = new AtomicInteger();
+            ConfigurationSource failingSource = new ConfigurationSource() {
+
+                @Override
+                public Config getConfig() {
+                    return ConfigFactory.empty();
+                }
+
+                @Override
+                public void reload() {
+                    throw new IllegalStateException("reload failed");
+                }
+
+            };
+            ConfigurationSource countingSource = new ConfigurationSource() {
+
+                @Override
+                public Config getConfig() {
+                    return ConfigFactory.empty();
+                }
+
+                @Override
+                public void reload() {
+                    reloads.incrementAndGet();
+                }
+
+            };
+
+            MergeConfigurationSource mergeSource = MergeConfigurationSource.builder()
+                    .withSource(failingSource)
+                    .withFallback(countingSource)
+                    .withReloadExecutor(reloadExecutor)
+                    .build();
+
+            assertThatThrownBy(mergeSource::reload)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("reload failed");
+            assertThat(reloads.get()).isEqualTo(1);
+        } finally {
+            reloadExecutor.shutdownNow();
+        }
+    }
+
+    private static ConfigurationSource awaitingSource(CountDownLatch allReloadsStarted) {
+        Config config = ConfigFactory.empty();
+        return new ConfigurationSource() {
+
+            @Override
+            public Config getConfig() {
+                return config;
+            }
+
+            @Override
+            public void reload() {
+                allReloadsStarted.countDown();
+                try {
+                    if (!allReloadsStarted.await(5, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("Sources were not reloaded concurrently");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+        };
+    }
+
+    private static ConfigurationSource fixedSource(String hocon) {
+        Config config = ConfigFactory.parseString(hocon);
+        return new ConfigurationSource() {
+
+            @Override
+            public Config getConfig() {
+                return config;
+            }
+
+            @Override
+            public void reload() {}
+
+        };
+    }
+
+}
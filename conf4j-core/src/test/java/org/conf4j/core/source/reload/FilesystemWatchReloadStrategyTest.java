@@ -0,0 +1,180 @@
+package org.conf4j.core.source.reload;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class FilesystemWatchReloadStrategyTest {
+
+    @Test
+    public void testReloadCalledOnFileChange() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        FilesystemWatchReloadStrategy strategy = FilesystemWatchReloadStrategy.builder()
+                .withFilePath(configFile.getAbsolutePath())
+                .build();
+
+        LongAdder numOfReloadCalls = new LongAdder();
+
+        try {
+            strategy.start(numOfReloadCalls::increment);
+            writeToFile(configFile.toPath(), "message: changed");
+
+            await("Reload called after file changed")
+                    .atMost(15, TimeUnit.SECONDS)
+                    .until(() -> numOfReloadCalls.longValue() > 0);
+        } finally {
+            strategy.stop();
+        }
+    }
+
+    @Test
+    public void testReloadCalledOnSymbolicLinkSwap() throws IOException {
+        Path directory = Files.createTempDirectory(RandomStringUtils.randomAlphanumeric(12));
+        Path firstVersion = Files.createDirectory(directory.resolve("..first"));
+        Path secondVersion = Files.createDirectory(directory.resolve("..second"));
+        writeToFile(firstVersion.resolve("config.conf"), "message: first");
+        writeToFile(secondVersion.resolve("config.conf"), "message: second");
+
+        Path dataLink = Files.createSymbolicLink(directory.resolve("..data"), firstVersion.getFileName());
+        Path configFile = Files.createSymbolicLink(directory.resolve("config.conf"), Paths.get("..data", "config.conf"));
+
+        FilesystemWatchReloadStrategy strategy = FilesystemWatchReloadStrategy.builder()
+                .withFilePath(configFile.toString())
+                .build();
+
+        LongAdder numOfReloadCalls = new LongAdder();
+
+        try {
+            strategy.start(numOfReloadCalls::increment);
+
+            Path newDataLink = Files.createSymbolicLink(directory.resolve("..data_tmp"), secondVersion.getFileName());
+            Files.move(newDataLink, dataLink, StandardCopyOption.ATOMIC_MOVE);
+            assertThat(new String(Files.readAllBytes(configFile))).isEqualTo("message: second");
+
+            await("Reload called after symbolic link swapped")
+                    .atMost(15, TimeUnit.SECONDS)
+                    .until(() -> numOfReloadCalls.longValue() > 0);
+        } finally {
+            strategy.stop();
+        }
+    }
+
+    @Test
+    public void testSlowReloadDoesNotDelayDetectingOtherChanges() throws IOException {
+        File slowConfigFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        FilesystemWatchReloadStrategy slowStrategy = FilesystemWatchReloadStrategy.builder()
+                .withFilePath(slowConfigFile.getAbsolutePath())
+                .build();
+        FilesystemWatchReloadStrategy strategy = FilesystemWatchReloadStrategy.builder()
+                .withFilePath(configFile.getAbsolutePath())
+                .build();
+
+        CountDownLatch slowReloadStarted = new CountDownLatch(1);
+        CountDownLatch slowReloadReleased = new CountDownLatch(1);
+        LongAdder numOfReloadCalls = new LongAdder();
+
+        try {
+            slowStrategy.start(() -> {
+                slowReloadStarted.countDown();
+                awaitQuietly(slowReloadReleased);
+            });
+            strategy.start(numOfReloadCalls::increment);
+
+            writeToFile(slowConfigFile.toPath(), "message: changed");
+            await("Slow reload started")
+                    .atMost(15, TimeUnit.SECONDS)
+                    .until(() -> slowReloadStarted.getCount() == 0);
+
+            writeToFile(configFile.toPath(), "message: changed");
+            await("Reload called while slow reload is running")
+                    .atMost(15, TimeUnit.SECONDS)
+                    .until(() -> numOfReloadCalls.longValue() > 0);
+        } finally {
+            slowReloadReleased.countDown();
+            slowStrategy.stop();
+            strategy.stop();
+        }
+    }
+
+    @Test
+    public void testWatchedFileMovedToNewWatcherAfterWatcherStopped() throws IOException {
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        writeToFile(configFile.toPath(), "message: initial");
+        FilesystemWatchReloadStrategy strategy = FilesystemWatchReloadStrategy.builder()
+                .withFilePath(configFile.getAbsolutePath())
+                .build();
+        AtomicReference<String> reloadedContent = new AtomicReference<>();
+
+        try {
+            strategy.start(() -> reloadedContent.set(readFile(configFile.toPath())));
+            DirectoryWatcher stoppedWatcher = DirectoryWatcher.getInstance();
+            stoppedWatcher.stop();
+            assertThat(DirectoryWatcher.getInstance()).isNotSameAs(stoppedWatcher);
+
+            writeToFile(configFile.toPath(), "message: changed");
+            await("Reload called after file changed")
+                    .atMost(15, TimeUnit.SECONDS)
+                    .until(() -> "message: changed".equals(reloadedContent.get()));
+        } finally {
+            strategy.stop();
+        }
+    }
+
+    @Test
+    public void testFileWatchedAfterWatcherStopped() throws IOException {
+        DirectoryWatcher.getInstance().stop();
+
+        File configFile = File.createTempFile(RandomStringUtils.randomAlphanumeric(12), ".conf");
+        FilesystemWatchReloadStrategy strategy = FilesystemWatchReloadStrategy.builder()
+                .withFilePath(configFile.getAbsolutePath())
+                .build();
+        LongAdder numOfReloadCalls = new LongAdder();
+
+        try {
+            strategy.start(numOfReloadCalls::increment);
+            writeToFile(configFile.toPath(), "message: changed");
+
+            await("Reload called after file changed")
+                    .atMost(15, TimeUnit.SECONDS)
+                    .until(() -> numOfReloadCalls.longValue() > 0);
+        } finally {
+            strategy.stop();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeToFile(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes());
+    }
+
+    private static String readFile(Path file) {
+        try {
+            return new String(Files.readAllBytes(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -1,11 +1,22 @@
 package org.conf4j.core.source.reload;
 
+import com.google.common.util.concurrent.Uninterruptibles;
 import org.junit.Test;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
 public class PeriodicalReloadStrategyTest {
@@ -50,4 +61,105 @@ public class PeriodicalReloadStrategyTest {
             strategy.stop();
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testReloadFinishingWhileStoppingNotRescheduled() throws InterruptedException {
+        LongAdder numOfReloadCalls = new LongAdder();
+        AtomicReference<PeriodicalReloadStrategy> strategyReference = new AtomicReference<>();
+        // Stops the strategy from another thread while the next reload is being scheduled
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1) {
+            private int numOfScheduleCalls;
+
+            @Override
+            public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+                if (++numOfScheduleCalls == 2) {
+                    Thread stoppingThread = new Thread(() -> strategyReference.get().stop());
+                    stoppingThread.start();
+                    try {
+                        stoppingThread.join(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.schedule(command, delay, unit);
+            }
+        };
+        PeriodicalReloadStrategy strategy = PeriodicalReloadStrategy.builder()
+                .withInterval(Duration.ofMillis(50))
+                .withScheduler(scheduler)
+                .build();
+        strategyReference.set(strategy);
+
+        try {
+            strategy.start(numOfReloadCalls::increment);
+
+            Thread.sleep(300);
+            assertThat(numOfReloadCalls.longValue()).isEqualTo(1);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testHangingReloadsDoNotDelayReloadsOfOtherStrategies() {
+        CountDownLatch hangingReloadsLatch = new CountDownLatch(1);
+        LongAdder numOfReloadCalls = new LongAdder();
+        List<PeriodicalReloadStrategy> hangingStrategies = new ArrayList<>();
+        PeriodicalReloadStrategy strategy = PeriodicalReloadStrategy.builder()
+                .withInterval(Duration.ofMillis(50))
+                .build();
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                PeriodicalReloadStrategy hangingStrategy = PeriodicalReloadStrategy.builder()
+                        .withInterval(Duration.ofMillis(10))
+                        .build();
+                hangingStrategies.add(hangingStrategy);
+                hangingStrategy.start(() -> Uninterruptibles.awaitUninterruptibly(hangingReloadsLatch));
+            }
+            strategy.start(numOfReloadCalls::increment);
+
+            await("Reload called more then once")
+                    .atMost(5, TimeUnit.SECONDS)
+                    .until(() -> numOfReloadCalls.longValue() > 1);
+        } finally {
+            strategy.stop();
+            hangingStrategies.forEach(PeriodicalReloadStrategy::stop);
+            hangingReloadsLatch.countDown();
+        }
+    }
+
+    @Test
+    public void testNegativeJitterRejected() {
+        assertThatThrownBy(() -> PeriodicalReloadStrategy.builder()
+                .withInterval(Duration.ofMillis(50))
+                .withJitter(Duration.ofMillis(-1))
+                .build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testReloadCalledOnSuppliedScheduler() {
+        String threadName = "test-reload-scheduler";
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, threadName));
+        AtomicReference<String> reloadThreadName = new AtomicReference<>();
+        PeriodicalReloadStrategy strategy = PeriodicalReloadStrategy.builder()
+                .withInterval(Duration.ofMillis(50))
+                .withJitter(Duration.ofMillis(10))
+                .withScheduler(scheduler)
+                .build();
+
+        try {
+            strategy.start(() -> reloadThreadName.set(Thread.currentThread().getName()));
+
+            await("Reload called on supplied scheduler")
+                    .atMost(5, TimeUnit.SECONDS)
+                    .until(() -> reloadThreadName.get() != null);
+            assertThat(reloadThreadName.get()).isEqualTo(threadName);
+        } finally {
+            strategy.stop();
+            scheduler.shutdownNow();
+        }
+    }
+
+}
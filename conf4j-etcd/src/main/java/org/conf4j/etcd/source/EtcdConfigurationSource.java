@@ -0,0 +1,20 @@
+package org.conf4j.etcd.source;
+
+import mousio.etcd4j.EtcdClient;
+
+import java.time.Duration;
+
+public interface EtcdConfigurationSource {
+
+    EtcdClient getEtcdClient();
+    String getPathToWatch();
+    Duration getWatchTimeout();
+
+    /**
+     * Returns the etcd index at which the configuration was last fetched, changes after it were not seen yet.
+     *
+     * @return etcd index of the last fetch
+     */
+    long getLastSeenIndex();
+
+}
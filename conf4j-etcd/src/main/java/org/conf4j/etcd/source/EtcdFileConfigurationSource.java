@@ -3,36 +3,55 @@ package org.conf4j.etcd.source;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import mousio.etcd4j.EtcdClient;
+import mousio.etcd4j.responses.EtcdErrorCode;
 import mousio.etcd4j.responses.EtcdException;
 import mousio.etcd4j.responses.EtcdKeysResponse;
-import org.conf4j.core.source.ConfigurationSource;
+import org.conf4j.core.source.WatchableConfigurationSource;
+import org.conf4j.core.source.reload.ReloadStrategy;
+import org.conf4j.etcd.source.reload.EtcdWatchReloadStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
-public class EtcdFileConfigurationSource implements ConfigurationSource {
+public class EtcdFileConfigurationSource implements WatchableConfigurationSource, EtcdConfigurationSource {
 
     private static final Logger logger = LoggerFactory.getLogger(EtcdFileConfigurationSource.class);
 
-    private final List<URI> etcdEndpoints;
+    private final EtcdClient etcdClient;
+    private final boolean closeEtcdClient;
     private final String configurationPath;
     private final boolean ignoreMissingResource;
+    private final Duration watchTimeout;
     private final AtomicReference<Config> configCache = new AtomicReference<>();
+    private final AtomicLong lastSeenIndex = new AtomicLong();
+    private final EtcdWatchReloadStrategy reloadStrategy;
 
-    private EtcdFileConfigurationSource(List<URI> etcdEndpoints, String configurationPath, boolean ignoreMissingFile) {
-        this.etcdEndpoints = requireNonNull(etcdEndpoints);
+    private EtcdFileConfigurationSource(EtcdClient etcdClient, boolean closeEtcdClient, String configurationPath,
+                                        boolean ignoreMissingFile, boolean reloadOnChange, Duration watchTimeout) {
+        this.etcdClient = requireNonNull(etcdClient);
+        this.closeEtcdClient = closeEtcdClient;
         this.configurationPath = requireNonNull(configurationPath);
         this.ignoreMissingResource = ignoreMissingFile;
-
-        checkArgument(!etcdEndpoints.isEmpty(), "Must supply at least 1 etcd endpoint");
+        this.watchTimeout = requireNonNull(watchTimeout);
         configCache.set(buildConfigIfAbsent(null));
+
+        if (reloadOnChange) {
+            this.reloadStrategy = EtcdWatchReloadStrategy.builder()
+                    .withEtcdConfigurationSource(this)
+                    .build();
+        } else {
+            this.reloadStrategy = null;
+        }
     }
 
     @Override
@@ -40,24 +59,67 @@ public class EtcdFileConfigurationSource implements ConfigurationSource {
         return configCache.updateAndGet(this::buildConfigIfAbsent);
     }
 
+    @Override
+    public boolean shouldWatchForChange() {
+        return reloadStrategy != null;
+    }
+
+    @Override
+    public ReloadStrategy getReloadStrategy() {
+        return reloadStrategy;
+    }
+
+    @Override
+    public EtcdClient getEtcdClient() {
+        return etcdClient;
+    }
+
+    @Override
+    public String getPathToWatch() {
+        return configurationPath;
+    }
+
+    @Override
+    public Duration getWatchTimeout() {
+        return watchTimeout;
+    }
+
+    @Override
+    public long getLastSeenIndex() {
+        return lastSeenIndex.get();
+    }
+
     @Override
     public void reload() {
-        configCache.set(this.buildConfigIfAbsent(null));
+        Config newConfig = buildConfigIfAbsent(null);
+        configCache.updateAndGet(currentConfig -> newConfig.equals(currentConfig) ? currentConfig : newConfig);
+    }
+
+    /**
+     * Closes the etcd client, unless it was supplied to the builder, in which case its owner is responsible for closing it.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closeEtcdClient) {
+            etcdClient.close();
+        }
     }
 
     private Config buildConfigIfAbsent(Config currentConfig) {
         if (currentConfig != null) return currentConfig;
 
-        try(EtcdClient etcd = new EtcdClient(etcdEndpoints.toArray(new URI[0]))){
-            EtcdKeysResponse etcdKeysResponse = etcd.get(configurationPath).send().get();
+        try {
+            EtcdKeysResponse etcdKeysResponse = etcdClient.get(configurationPath).send().get();
+            updateLastSeenIndex(etcdKeysResponse.etcdIndex != null ? etcdKeysResponse.etcdIndex : etcdKeysResponse.getNode().getModifiedIndex());
             String config = etcdKeysResponse.getNode().getValue();
             if (config != null) {
                 return ConfigFactory.parseString(config);
             }
         } catch (EtcdException e) {
-            if (!e.ETCDMessage().equals("Key not found")) {
+            if (!e.isErrorCode(EtcdErrorCode.KeyNotFound)) {
                 throw new RuntimeException("Unknown exception while fetching configuration from etcd", e);
             }
+            if (e.getIndex() != null) updateLastSeenIndex(e.getIndex());
         } catch (Exception e) {
             throw new RuntimeException("Unknown exception while fetching configuration from etcd", e);
         }
@@ -71,6 +133,10 @@ public class EtcdFileConfigurationSource implements ConfigurationSource {
         throw new IllegalStateException("Missing required configuration resource at path: " + configurationPath);
     }
 
+    private void updateLastSeenIndex(long index) {
+        lastSeenIndex.accumulateAndGet(index, Math::max);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -78,8 +144,11 @@ public class EtcdFileConfigurationSource implements ConfigurationSource {
     public static class Builder {
 
         private List<URI> etcdEndpoints;
+        private EtcdClient etcdClient;
         private String configurationPath;
         private boolean ignoreMissingPath;
+        private boolean reloadOnChange;
+        private Duration watchTimeout = Duration.ofSeconds(30);
 
         private Builder() {
             this.etcdEndpoints = new ArrayList<>();
@@ -90,6 +159,18 @@ public class EtcdFileConfigurationSource implements ConfigurationSource {
             return this;
         }
 
+        /**
+         * Use the given client instead of creating one from the configured endpoints. This allows sharing a single
+         * client between sources; the client is not closed when the source is closed.
+         *
+         * @param etcdClient etcd client to fetch the configuration with
+         * @return this builder
+         */
+        public Builder withEtcdClient(EtcdClient etcdClient) {
+            this.etcdClient = etcdClient;
+            return this;
+        }
+
         public Builder withConfigurationPath(String configurationPath) {
             this.configurationPath = configurationPath;
             return this;
@@ -100,8 +181,45 @@ public class EtcdFileConfigurationSource implements ConfigurationSource {
             return this;
         }
 
+        public Builder reloadOnChange() {
+            this.reloadOnChange = true;
+            return this;
+        }
+
+        /**
+         * Sets how long a single watch request waits for a change before it is issued again, default is 30 seconds.
+         *
+         * @param watchTimeout timeout of a single watch request
+         * @return this builder
+         */
+        public Builder withWatchTimeout(Duration watchTimeout) {
+            this.watchTimeout = watchTimeout;
+            return this;
+        }
+
         public EtcdFileConfigurationSource build() {
-            return new EtcdFileConfigurationSource(etcdEndpoints, configurationPath, ignoreMissingPath);
+            if (etcdClient != null) {
+                return new EtcdFileConfigurationSource(etcdClient, false, configurationPath, ignoreMissingPath,
+                        reloadOnChange, watchTimeout);
+            }
+
+            checkArgument(!etcdEndpoints.isEmpty(), "Must supply at least 1 etcd endpoint");
+            EtcdClient client = new EtcdClient(etcdEndpoints.toArray(new URI[0]));
+            try {
+                return new EtcdFileConfigurationSource(client, true, configurationPath, ignoreMissingPath,
+                        reloadOnChange, watchTimeout);
+            } catch (RuntimeException e) {
+                closeQuietly(client);
+                throw e;
+            }
+        }
+
+        private void closeQuietly(EtcdClient client) {
+            try {
+                client.close();
+            } catch (Exception e) {
+                logger.warn("Unknown error while closing etcd client", e);
+            }
         }
 
     }
@@ -0,0 +1,129 @@
+package org.conf4j.etcd.source.reload;
+
+import mousio.etcd4j.EtcdClient;
+import mousio.etcd4j.responses.EtcdErrorCode;
+import mousio.etcd4j.responses.EtcdException;
+import mousio.etcd4j.responses.EtcdKeysResponse;
+import org.conf4j.core.source.reload.ReloadStrategy;
+import org.conf4j.etcd.source.EtcdConfigurationSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reloads configuration on changes of an etcd key, using etcd long-poll watches.
+ * Each watch waits for the index following the last seen one, so after a timeout or a disconnect
+ * the watch resumes where it stopped without missing changes or fetching unchanged values again.
+ */
+public class EtcdWatchReloadStrategy implements ReloadStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(EtcdWatchReloadStrategy.class);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final EtcdConfigurationSource source;
+    private final EtcdClient etcdClient;
+    private final String pathToWatch;
+    private final Duration watchTimeout;
+    private volatile boolean running;
+    private Thread watchThread;
+
+    private EtcdWatchReloadStrategy(EtcdConfigurationSource source) {
+        this.source = requireNonNull(source);
+        this.etcdClient = requireNonNull(source.getEtcdClient());
+        this.pathToWatch = requireNonNull(source.getPathToWatch());
+        this.watchTimeout = requireNonNull(source.getWatchTimeout());
+    }
+
+    @Override
+    public void start(Runnable reloadCallback) {
+        logger.info("Starting etcd watch reload strategy for path: {}", pathToWatch);
+        running = true;
+        long lastSeenIndex = source.getLastSeenIndex();
+        watchThread = new Thread(() -> watch(lastSeenIndex + 1, reloadCallback), "conf4j-etcd-watch-" + pathToWatch);
+        watchThread.setDaemon(true);
+        watchThread.start();
+        logger.info("Etcd watch reload strategy started");
+    }
+
+    @Override
+    public void stop() {
+        logger.info("Stopping etcd watch reload strategy");
+        running = false;
+        if (watchThread != null) watchThread.interrupt();
+        logger.info("Etcd watch reload strategy stopped");
+    }
+
+    private void watch(long waitIndex, Runnable reloadCallback) {
+        while (running) {
+            try {
+                EtcdKeysResponse response = etcdClient.get(pathToWatch)
+                        .waitForChange(waitIndex)
+                        .timeout(watchTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                        .send()
+                        .get();
+
+                waitIndex = response.getNode().getModifiedIndex() + 1;
+                logger.trace("Etcd path: {} changed, next watch index: {}", pathToWatch, waitIndex);
+                reload(reloadCallback);
+            } catch (TimeoutException e) {
+                logger.trace("No change in etcd path: {} within watch timeout", pathToWatch);
+            } catch (EtcdException e) {
+                if (e.isErrorCode(EtcdErrorCode.EventIndexCleared) && e.getIndex() != null) {
+                    logger.debug("Etcd events since index: {} were cleared, reloading from index: {}", waitIndex, e.getIndex());
+                    waitIndex = e.getIndex() + 1;
+                    reload(reloadCallback);
+                } else {
+                    handleWatchError(e);
+                }
+            } catch (Throwable t) {
+                handleWatchError(t);
+            }
+        }
+    }
+
+    private void reload(Runnable reloadCallback) {
+        try {
+            reloadCallback.run();
+        } catch (Throwable t) {
+            logger.error("Unknown error thrown while reloading config", t);
+        }
+    }
+
+    private void handleWatchError(Throwable t) {
+        if (!running) return;
+
+        logger.warn("Error while watching etcd path: {}, retrying in {}ms", pathToWatch, RETRY_DELAY.toMillis(), t);
+        try {
+            Thread.sleep(RETRY_DELAY.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EtcdConfigurationSource source;
+
+        public Builder withEtcdConfigurationSource(EtcdConfigurationSource source) {
+            this.source = source;
+            return this;
+        }
+
+        public EtcdWatchReloadStrategy build() {
+            requireNonNull(source);
+            return new EtcdWatchReloadStrategy(source);
+        }
+
+    }
+
+}
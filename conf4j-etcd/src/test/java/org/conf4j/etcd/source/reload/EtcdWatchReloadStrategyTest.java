@@ -0,0 +1,93 @@
+package org.conf4j.etcd.source.reload;
+
+import mousio.etcd4j.EtcdClient;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.conf4j.etcd.source.EtcdFileConfigurationSource;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.output.Slf4jLogConsumer;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class EtcdWatchReloadStrategyTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EtcdWatchReloadStrategyTest.class);
+
+    private static String directory = "config/";
+    private static GenericContainer etcdContainer;
+
+    @BeforeClass
+    public static void startEtcdTestContainer() {
+        etcdContainer = new GenericContainer("quay.io/coreos/etcd:v3.2.4")
+                .withExposedPorts(2379)
+                .withCommand("etcd",
+                        "--advertise-client-urls", "http://0.0.0.0:2379",
+                        "--listen-client-urls", "http://0.0.0.0:2379"
+                );
+
+        etcdContainer.start();
+        etcdContainer.followOutput(new Slf4jLogConsumer(logger).withPrefix("etcd"));
+    }
+
+    @Test
+    public void testReloadCalledOnChangeInEtcd() throws Exception {
+        String filename = RandomStringUtils.randomAlphanumeric(12) + ".conf";
+        String fieldName = RandomStringUtils.randomAlphanumeric(12);
+
+        putConfigInEtcd(filename, fieldName, RandomStringUtils.randomAlphanumeric(12));
+
+        EtcdFileConfigurationSource configurationSource = EtcdFileConfigurationSource.builder()
+                .withConfigurationPath(directory + filename)
+                .addEtcdEndpoint(getEtcdUrl())
+                .withWatchTimeout(Duration.ofSeconds(1))
+                .build();
+
+        EtcdWatchReloadStrategy reloadStrategy = EtcdWatchReloadStrategy.builder()
+                .withEtcdConfigurationSource(configurationSource)
+                .build();
+
+        LongAdder numberOfReloads = new LongAdder();
+
+        try {
+            reloadStrategy.start(numberOfReloads::increment);
+
+            Thread.sleep(Duration.ofSeconds(2).toMillis());
+            assertThat(numberOfReloads.longValue()).isEqualTo(0);
+
+            putConfigInEtcd(filename, fieldName, RandomStringUtils.randomAlphanumeric(12));
+
+            await("Reload called after change in etcd")
+                    .atMost(5, TimeUnit.SECONDS)
+                    .until(() -> numberOfReloads.longValue() == 1);
+        } finally {
+            reloadStrategy.stop();
+            configurationSource.close();
+        }
+    }
+
+    @AfterClass
+    public static void stopEtcdTestContainer() {
+        if (etcdContainer != null) etcdContainer.stop();
+    }
+
+    private static void putConfigInEtcd(String filename, String key, String value) throws Exception {
+        try (EtcdClient etcd = new EtcdClient(URI.create(getEtcdUrl()))) {
+            etcd.put(directory + filename, String.format("%s: %s", key, value)).send().get();
+        }
+    }
+
+    private static String getEtcdUrl() {
+        return String.format("http://localhost:%s", etcdContainer.getMappedPort(2379));
+    }
+
+}
@@ -4,20 +4,23 @@ import org.conf4j.core.ext.ConfigurationExtension;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
-import javax.validation.Validation;
-import javax.validation.Validator;
-import javax.validation.ValidatorFactory;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Validates configuration beans with Bean Validation after they are assembled. After the first load, only the parts
+ * of a reloaded bean which changed are validated, see {@link IncrementalBeanValidator}. The validator factory is
+ * shared with the extensions of other providers and released when the provider is closed.
+ */
 public class BeanValidationExtension implements ConfigurationExtension {
 
     private static final String NAME = "Bean Validation Extension";
 
-    private final Validator validator;
+    private final IncrementalBeanValidator validator;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
 
     public BeanValidationExtension() {
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        this.validator = factory.getValidator();
+        this.validator = new IncrementalBeanValidator(SharedValidatorFactory.acquire());
     }
 
     @Override
@@ -28,6 +31,13 @@ public class BeanValidationExtension implements ConfigurationExtension {
         }
     }
 
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            SharedValidatorFactory.release();
+        }
+    }
+
     @Override
     public String getExtensionName() {
         return NAME;
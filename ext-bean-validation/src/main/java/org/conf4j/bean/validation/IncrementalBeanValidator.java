@@ -0,0 +1,220 @@
+package org.conf4j.bean.validation;
+
+import com.google.common.collect.MapMaker;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.TraversableResolver;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ContainerElementTypeDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.lang.annotation.ElementType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Validates configuration beans, skipping sub-objects which are the very same instances as in a previously validated
+ * bean. Reloaded configuration beans reuse instances of unchanged sub-objects, so only changed parts are validated.
+ * Each changed bean is validated without cascading, then its cascaded properties are walked using metadata cached
+ * per class and validator factory, and shared by all validators. When anything is invalid, the whole bean is
+ * validated once more to report violations with full paths.
+ * Note: Configuration beans are expected to be immutable, constraints depending on time (like {@code @Future})
+ * are only checked when the object changes.
+ */
+class IncrementalBeanValidator {
+
+    // Factories are weakly referenced, metadata read from a closed factory goes away with it
+    private static final ClassValue<Map<ValidatorFactory, BeanMetadata>> BEAN_METADATA =
+            new ClassValue<Map<ValidatorFactory, BeanMetadata>>() {
+                @Override
+                protected Map<ValidatorFactory, BeanMetadata> computeValue(Class<?> beanClass) {
+                    return new MapMaker().weakKeys().makeMap();
+                }
+            };
+
+    private final ValidatorFactory validatorFactory;
+    private final Validator validator;
+    private final Validator nonCascadingValidator;
+    private final Set<Object> validInstances = Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
+
+    IncrementalBeanValidator(ValidatorFactory validatorFactory) {
+        this.validatorFactory = validatorFactory;
+        this.validator = validatorFactory.getValidator();
+        this.nonCascadingValidator = validatorFactory.usingContext()
+                .traversableResolver(new NonCascadingTraversableResolver())
+                .getValidator();
+    }
+
+    Set<ConstraintViolation<Object>> validate(Object bean) {
+        List<Object> validatedInstances = new ArrayList<>();
+        if (isValid(bean, validatedInstances)) {
+            validInstances.addAll(validatedInstances);
+            return Collections.emptySet();
+        }
+
+        return validator.validate(bean);
+    }
+
+    private boolean isValid(Object value, List<Object> validatedInstances) {
+        if (value == null || validInstances.contains(value)) return true;
+
+        if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                if (!isValid(element, validatedInstances)) return false;
+            }
+        } else if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!isValid(entry.getKey(), validatedInstances) || !isValid(entry.getValue(), validatedInstances)) {
+                    return false;
+                }
+            }
+        } else if (value instanceof Object[]) {
+            for (Object element : (Object[]) value) {
+                if (!isValid(element, validatedInstances)) return false;
+            }
+        } else if (value instanceof Optional) {
+            if (!isValid(((Optional<?>) value).orElse(null), validatedInstances)) return false;
+        } else {
+            BeanMetadata metadata = getBeanMetadata(value.getClass());
+            if (metadata.isUnconstrained()) return true;
+            if (!metadata.isAccessible()) return false;
+            if (metadata.hasConstraints() && !nonCascadingValidator.validate(value).isEmpty()) return false;
+
+            for (Function<Object, Object> cascadedProperty : metadata.getCascadedProperties()) {
+                if (!isValid(cascadedProperty.apply(value), validatedInstances)) return false;
+            }
+        }
+
+        validatedInstances.add(value);
+        return true;
+    }
+
+    private BeanMetadata getBeanMetadata(Class<?> beanClass) {
+        return BEAN_METADATA.get(beanClass).computeIfAbsent(validatorFactory,
+                factory -> BeanMetadata.of(beanClass, validator.getConstraintsForClass(beanClass)));
+    }
+
+    private static class BeanMetadata {
+
+        private final boolean hasConstraints;
+        private final List<Function<Object, Object>> cascadedProperties;
+        private final boolean accessible;
+
+        private BeanMetadata(boolean hasConstraints, List<Function<Object, Object>> cascadedProperties, boolean accessible) {
+            this.hasConstraints = hasConstraints;
+            this.cascadedProperties = cascadedProperties;
+            this.accessible = accessible;
+        }
+
+        private boolean isUnconstrained() {
+            return !hasConstraints && cascadedProperties.isEmpty() && accessible;
+        }
+
+        private boolean hasConstraints() {
+            return hasConstraints;
+        }
+
+        private List<Function<Object, Object>> getCascadedProperties() {
+            return cascadedProperties;
+        }
+
+        private boolean isAccessible() {
+            return accessible;
+        }
+
+        private static BeanMetadata of(Class<?> beanClass, BeanDescriptor descriptor) {
+            boolean hasConstraints = descriptor.hasConstraints();
+            List<Function<Object, Object>> cascadedProperties = new ArrayList<>();
+            boolean accessible = true;
+
+            for (PropertyDescriptor property : descriptor.getConstrainedProperties()) {
+                hasConstraints |= property.hasConstraints() || hasContainerElementConstraints(property.getConstrainedContainerElementTypes());
+                if (property.isCascaded() || isAnyCascaded(property.getConstrainedContainerElementTypes())) {
+                    Function<Object, Object> accessor = findAccessor(beanClass, property.getPropertyName());
+                    accessible &= accessor != null;
+                    if (accessor != null) cascadedProperties.add(accessor);
+                }
+            }
+
+            return new BeanMetadata(hasConstraints, Collections.unmodifiableList(cascadedProperties), accessible);
+        }
+
+        private static boolean hasContainerElementConstraints(Set<ContainerElementTypeDescriptor> containerElementTypes) {
+            return containerElementTypes.stream().anyMatch(containerElementType -> containerElementType.hasConstraints()
+                    || hasContainerElementConstraints(containerElementType.getConstrainedContainerElementTypes()));
+        }
+
+        private static boolean isAnyCascaded(Set<ContainerElementTypeDescriptor> containerElementTypes) {
+            return containerElementTypes.stream().anyMatch(containerElementType -> containerElementType.isCascaded()
+                    || isAnyCascaded(containerElementType.getConstrainedContainerElementTypes()));
+        }
+
+        private static Function<Object, Object> findAccessor(Class<?> beanClass, String propertyName) {
+            for (Class<?> type = beanClass; type != null && type != Object.class; type = type.getSuperclass()) {
+                try {
+                    Field field = type.getDeclaredField(propertyName);
+                    field.setAccessible(true);
+                    return bean -> readField(field, bean);
+                } catch (NoSuchFieldException e) {
+                    // Look for the field in the superclass
+                }
+            }
+
+            String capitalizedName = Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+            for (String getterName : new String[] {"get" + capitalizedName, "is" + capitalizedName}) {
+                try {
+                    Method getter = beanClass.getMethod(getterName);
+                    getter.setAccessible(true);
+                    return bean -> invokeGetter(getter, bean);
+                } catch (NoSuchMethodException e) {
+                    // Try the next getter name
+                }
+            }
+
+            return null;
+        }
+
+        private static Object readField(Field field, Object bean) {
+            try {
+                return field.get(bean);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot read cascaded property: " + field, e);
+            }
+        }
+
+        private static Object invokeGetter(Method getter, Object bean) {
+            try {
+                return getter.invoke(bean);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot read cascaded property: " + getter, e);
+            }
+        }
+
+    }
+
+    private static class NonCascadingTraversableResolver implements TraversableResolver {
+
+        @Override
+        public boolean isReachable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+                                   Path pathToTraversableObject, ElementType elementType) {
+            return true;
+        }
+
+        @Override
+        public boolean isCascadable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+                                    Path pathToTraversableObject, ElementType elementType) {
+            return false;
+        }
+
+    }
+
+}
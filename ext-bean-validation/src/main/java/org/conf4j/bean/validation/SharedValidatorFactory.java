@@ -0,0 +1,45 @@
+package org.conf4j.bean.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+
+/**
+ * Validator factory shared by all bean validation extensions in the JVM, so the validation provider is bootstrapped
+ * and builds its metadata only once. The factory is reference counted and closed when the last extension releases it.
+ */
+final class SharedValidatorFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedValidatorFactory.class);
+
+    private static ValidatorFactory validatorFactory;
+    private static int references;
+
+    private SharedValidatorFactory() {}
+
+    static synchronized ValidatorFactory acquire() {
+        if (references == 0) {
+            logger.debug("Building shared validator factory");
+            validatorFactory = Validation.buildDefaultValidatorFactory();
+        }
+
+        references++;
+        return validatorFactory;
+    }
+
+    static synchronized void release() {
+        if (references == 0) {
+            logger.warn("Shared validator factory released more times than acquired");
+            return;
+        }
+
+        if (--references == 0) {
+            logger.debug("Closing shared validator factory");
+            validatorFactory.close();
+            validatorFactory = null;
+        }
+    }
+
+}
@@ -8,10 +8,24 @@ import org.conf4j.core.source.ConfigurationSource;
 import org.conf4j.core.source.FilesystemConfigurationSource;
 import org.junit.Test;
 
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
 import javax.validation.ConstraintViolationException;
+import javax.validation.Payload;
+import javax.validation.ValidatorFactory;
+import javax.validation.Valid;
 import javax.validation.constraints.Email;
+import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -28,6 +42,48 @@ public class BeanValidationExtensionTest {
                 .hasMessage("Invalid configurations");
     }
 
+    @Test
+    public void testOnlyChangedPartsValidatedAgain() {
+        BeanValidationExtension extension = new BeanValidationExtension();
+        Child unchangedChild = new Child("unchanged");
+        extension.afterConfigBeanAssembly(new Parent(Arrays.asList(unchangedChild, new Child("first"))));
+        int validationsBeforeReload = CountingValidator.VALIDATIONS.get();
+
+        extension.afterConfigBeanAssembly(new Parent(Arrays.asList(unchangedChild, new Child("second"))));
+        assertThat(CountingValidator.VALIDATIONS.get() - validationsBeforeReload).isEqualTo(1);
+    }
+
+    @Test
+    public void testInvalidChangedPartReportedWithFullPath() {
+        BeanValidationExtension extension = new BeanValidationExtension();
+        Child unchangedChild = new Child("unchanged");
+        extension.afterConfigBeanAssembly(new Parent(Arrays.asList(unchangedChild, new Child("valid"))));
+
+        assertThatThrownBy(() -> extension.afterConfigBeanAssembly(new Parent(Arrays.asList(unchangedChild, new Child("")))))
+                .isInstanceOfSatisfying(ConstraintViolationException.class, e ->
+                        assertThat(e.getConstraintViolations().iterator().next().getPropertyPath().toString())
+                                .isEqualTo("children[1].name"));
+    }
+
+    @Test
+    public void testValidatorFactorySharedUntilLastExtensionClosed() {
+        ValidatorFactory validatorFactory = SharedValidatorFactory.acquire();
+        try {
+            BeanValidationExtension firstExtension = new BeanValidationExtension();
+            BeanValidationExtension secondExtension = new BeanValidationExtension();
+            assertThat(SharedValidatorFactory.acquire()).isSameAs(validatorFactory);
+            SharedValidatorFactory.release();
+
+            firstExtension.close();
+            firstExtension.close();
+            secondExtension.close();
+            assertThat(SharedValidatorFactory.acquire()).isSameAs(validatorFactory);
+            SharedValidatorFactory.release();
+        } finally {
+            SharedValidatorFactory.release();
+        }
+    }
+
     private ConfigurationProvider<TestConfiguration> buildProvider(String filename) {
         ConfigurationSource source = FilesystemConfigurationSource.builder()
                 .withFilePath(getClass().getResource(filename).getPath())
@@ -38,6 +94,51 @@ public class BeanValidationExtensionTest {
                 .build();
     }
 
+    private static class Parent {
+
+        @Valid
+        final List<Child> children;
+
+        Parent(List<Child> children) {
+            this.children = children;
+        }
+    }
+
+    private static class Child {
+
+        @Counted
+        @NotBlank
+        final String name;
+
+        Child(String name) {
+            this.name = name;
+        }
+    }
+
+    @Target(ElementType.FIELD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(validatedBy = CountingValidator.class)
+    public @interface Counted {
+
+        String message() default "counted";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+    }
+
+    public static class CountingValidator implements ConstraintValidator<Counted, Object> {
+
+        static final AtomicInteger VALIDATIONS = new AtomicInteger();
+
+        @Override
+        public boolean isValid(Object value, ConstraintValidatorContext context) {
+            VALIDATIONS.incrementAndGet();
+            return true;
+        }
+    }
+
     private static class TestConfiguration {
 
         @Positive